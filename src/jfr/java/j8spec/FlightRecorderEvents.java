@@ -0,0 +1,134 @@
+package j8spec;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * JDK Flight Recorder events emitted while specs are read and executed. Only loaded once FlightRecording has checked
+ * that the running JVM supports them.
+ */
+final class FlightRecorderEvents {
+
+    static final String PASSED = "passed";
+    static final String FAILED = "failed";
+
+    @Name("j8spec.SpecRead")
+    @Label("Spec Read")
+    @Category("J8Spec")
+    @Description("Spec class instantiated and its examples built")
+    static final class SpecRead extends Event {
+        @Label("Spec Class")
+        Class<?> specClass;
+
+        @Label("Examples")
+        int examples;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Failure")
+        String failure;
+
+        @Label("Random Order")
+        boolean randomOrder;
+
+        @Label("Seed")
+        long seed;
+    }
+
+    @Name("j8spec.Group")
+    @Label("Example Group")
+    @Category("J8Spec")
+    @Description("From the first example of an example group to its last one and its \"after all\" hooks")
+    static final class Group extends Event {
+        @Label("Path")
+        String path;
+
+        @Label("Outcome")
+        @Description("Failed when one of its examples or hooks, or those of its inner groups, failed")
+        String outcome;
+
+        @Label("Failure")
+        @Description("First failure of its examples or hooks")
+        String failure;
+
+        @Label("Random Order")
+        boolean randomOrder;
+
+        @Label("Seed")
+        long seed;
+    }
+
+    @Name("j8spec.Hook")
+    @Label("Hook")
+    @Category("J8Spec")
+    @Description("Hook executed for an example")
+    static final class Hook extends Event {
+        @Label("Path")
+        @Description("Path of the example group the hook belongs to")
+        String path;
+
+        @Label("Kind")
+        String kind;
+
+        @Label("Position")
+        int position;
+
+        @Label("Example")
+        String example;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Failure")
+        String failure;
+
+        @Label("Random Order")
+        boolean randomOrder;
+
+        @Label("Seed")
+        long seed;
+    }
+
+    @Name("j8spec.Example")
+    @Label("Example")
+    @Category("J8Spec")
+    @Description("Example executed along with its hooks")
+    static final class Example extends Event {
+        @Label("Path")
+        @Description("Path of the example group the example belongs to")
+        String path;
+
+        @Label("Description")
+        String description;
+
+        @Label("Outcome")
+        String outcome;
+
+        @Label("Failure")
+        String failure;
+
+        @Label("Random Order")
+        boolean randomOrder;
+
+        @Label("Seed")
+        long seed;
+    }
+
+    static String outcome(Throwable failure) {
+        return failure == null ? PASSED : FAILED;
+    }
+
+    static String failure(Throwable failure) {
+        return failure == null ? null : failure.toString();
+    }
+
+    static String path(GroupPath path) {
+        return path == null ? null : String.join("/", path.descriptions());
+    }
+
+    private FlightRecorderEvents() {}
+}
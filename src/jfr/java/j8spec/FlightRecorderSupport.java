@@ -0,0 +1,48 @@
+package j8spec;
+
+import jdk.jfr.FlightRecorder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/*
+ * Loaded by FlightRecording through reflection, once it has checked that the running JVM provides the jdk.jfr API.
+ */
+final class FlightRecorderSupport implements FlightRecording.Recorder {
+
+    @Override
+    public boolean isRecording() {
+        return FlightRecorder.isInitialized();
+    }
+
+    @Override
+    public PhaseListener listener(boolean randomOrder, long seed) {
+        return new FlightRecordingListener(randomOrder, seed);
+    }
+
+    @Override
+    public List<Example> recordRead(Class<?> specClass, Function<Class<?>, List<Example>> read) {
+        FlightRecorderEvents.SpecRead event = new FlightRecorderEvents.SpecRead();
+        event.begin();
+        Throwable failure = null;
+        try {
+            List<Example> examples = read.apply(specClass);
+            event.examples = examples.size();
+            return examples;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Long seed = FlightRecording.seed(specClass);
+                event.specClass = specClass;
+                event.outcome = FlightRecorderEvents.outcome(failure);
+                event.failure = FlightRecorderEvents.failure(failure);
+                event.randomOrder = seed != null;
+                event.seed = seed == null ? 0 : seed;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package j8spec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static j8spec.FlightRecorderEvents.failure;
+import static j8spec.FlightRecorderEvents.outcome;
+import static j8spec.FlightRecorderEvents.path;
+
+/*
+ * Examples and hooks start and finish on the same thread, so their events are kept per thread until they finish.
+ * Example groups can finish on another thread than the one they started on when examples run in parallel, and their
+ * first failure can come from any of those threads.
+ */
+final class FlightRecordingListener implements PhaseListener {
+
+    private final boolean randomOrder;
+    private final long seed;
+    private final ThreadLocal<FlightRecorderEvents.Example> example = new ThreadLocal<>();
+    private final ThreadLocal<FlightRecorderEvents.Hook> hook = new ThreadLocal<>();
+    private final Map<GroupPath, FlightRecorderEvents.Group> groups = new ConcurrentHashMap<>();
+    private final Map<GroupPath, Throwable> failures = new ConcurrentHashMap<>();
+
+    FlightRecordingListener(boolean randomOrder, long seed) {
+        this.randomOrder = randomOrder;
+        this.seed = seed;
+    }
+
+    @Override
+    public void phaseFinished(GroupPath containerPath, Example example, Phase phase, long durationNanos) {}
+
+    @Override
+    public void hookStarted(GroupPath owner, Phase phase, int position, Example example) {
+        FlightRecorderEvents.Hook event = new FlightRecorderEvents.Hook();
+        event.begin();
+        hook.set(event);
+    }
+
+    @Override
+    public void hookFinished(
+        GroupPath owner,
+        Phase phase,
+        int position,
+        Example example,
+        Throwable failure,
+        long durationNanos
+    ) {
+        groupFailed(owner, failure);
+        FlightRecorderEvents.Hook event = hook.get();
+        hook.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path(owner);
+            event.kind = phase.name();
+            event.position = position;
+            event.example = example.description();
+            event.outcome = outcome(failure);
+            event.failure = failure(failure);
+            event.randomOrder = randomOrder;
+            event.seed = seed;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void exampleStarted(GroupPath containerPath, Example example) {
+        FlightRecorderEvents.Example event = new FlightRecorderEvents.Example();
+        event.begin();
+        this.example.set(event);
+    }
+
+    @Override
+    public void exampleFinished(GroupPath containerPath, Example example, Throwable failure, long durationNanos) {
+        groupFailed(containerPath, failure);
+        FlightRecorderEvents.Example event = this.example.get();
+        this.example.remove();
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path(containerPath);
+            event.description = example.description();
+            event.outcome = outcome(failure);
+            event.failure = failure(failure);
+            event.randomOrder = randomOrder;
+            event.seed = seed;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void groupStarted(GroupPath path) {
+        FlightRecorderEvents.Group event = new FlightRecorderEvents.Group();
+        event.begin();
+        groups.put(path, event);
+    }
+
+    @Override
+    public void groupFinished(GroupPath path, long durationNanos) {
+        FlightRecorderEvents.Group event = groups.remove(path);
+        Throwable failure = failures.remove(path);
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path(path);
+            event.outcome = outcome(failure);
+            event.failure = failure(failure);
+            event.randomOrder = randomOrder;
+            event.seed = seed;
+            event.commit();
+        }
+    }
+
+    private void groupFailed(GroupPath path, Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        for (GroupPath group = path; group != null; group = group.parent()) {
+            if (failures.putIfAbsent(group, failure) != null) {
+                return;
+            }
+        }
+    }
+}
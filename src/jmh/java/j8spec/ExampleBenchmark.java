@@ -0,0 +1,73 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+import static j8spec.BlockExecutionStrategy.BLACK_LIST;
+import static j8spec.UnsafeBlock.NOOP;
+
+/**
+ * Per-example execution overhead: every hook and the example itself do nothing, so what is left is the cost of
+ * {@link Example#tryToExecute()}, with and without a {@link PhaseListener} that does nothing, and with a variable
+ * initializer, which gives the example a context for its variable values. Run with <code>-prof gc</code> to see the
+ * allocation rate per example.
+ */
+@State(Scope.Thread)
+public class ExampleBenchmark {
+
+    private static final PhaseListener LISTENER = (containerPath, example, phase, durationNanos) -> {};
+
+    private Example example;
+    private Example exampleWithVariable;
+
+    @Setup
+    public void buildExample() {
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(new ExampleGroupConfiguration.Builder().description("spec").definedOrder().build())
+                .beforeAll(NOOP)
+                .beforeEach(NOOP)
+                .afterEach(NOOP)
+                .afterAll(NOOP)
+                .startGroup(new ExampleGroupConfiguration.Builder().description("group").build())
+                    .beforeAll(NOOP)
+                    .beforeEach(NOOP)
+                    .afterEach(NOOP)
+                    .afterAll(NOOP)
+                    .example(new ExampleConfiguration.Builder().description("example").build(), NOOP)
+                .endGroup()
+            .endGroup();
+
+        List<Example> examples = builder.build();
+        example = examples.get(0);
+
+        Var<Object> variable = J8Spec.var();
+        Object value = new Object();
+        ExampleBuilder builderWithVariable = new ExampleBuilder(BLACK_LIST);
+        builderWithVariable
+            .startGroup(new ExampleGroupConfiguration.Builder().description("spec").definedOrder().build())
+                .varInitializer(variable, () -> value)
+                .example(new ExampleConfiguration.Builder().description("example").build(), () -> J8Spec.var(variable))
+            .endGroup();
+        exampleWithVariable = builderWithVariable.build().get(0);
+    }
+
+    @Benchmark
+    public void tryToExecute() throws Throwable {
+        example.tryToExecute();
+    }
+
+    @Benchmark
+    public void tryToExecuteWithVariable() throws Throwable {
+        exampleWithVariable.tryToExecute();
+    }
+
+    @Benchmark
+    public void tryToExecuteWithPhaseListener() throws Throwable {
+        example.tryToExecute(LISTENER);
+    }
+}
@@ -0,0 +1,72 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+import static j8spec.BlockExecutionStrategy.BLACK_LIST;
+import static j8spec.UnsafeBlock.NOOP;
+
+/**
+ * Cost of building and ordering the examples of a large spec: <code>examples</code> examples spread over three
+ * levels of randomly ordered groups. Run with <code>-prof gc</code> to see the allocation per operation.
+ */
+@State(Scope.Thread)
+public class RankBenchmark {
+
+    private static final int EXAMPLES_PER_GROUP = 10;
+
+    @Param({"10000", "100000"})
+    public int examples;
+
+    private Example[] ranked;
+
+    @Setup
+    public void buildExamples() {
+        ranked = generate().toArray(new Example[0]);
+    }
+
+    @Benchmark
+    public List<Example> generate() {
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        ExampleConfiguration example = new ExampleConfiguration.Builder().description("example").build();
+
+        builder.startGroup(new ExampleGroupConfiguration.Builder().description("spec").randomOrder().seed(0L).build());
+        for (int i = 0; i < examples; i++) {
+            if (i % (EXAMPLES_PER_GROUP * EXAMPLES_PER_GROUP) == 0) {
+                if (i > 0) {
+                    builder.endGroup().endGroup();
+                }
+                builder
+                    .startGroup(new ExampleGroupConfiguration.Builder().description("outer").build())
+                    .startGroup(new ExampleGroupConfiguration.Builder().description("inner").build());
+            } else if (i % EXAMPLES_PER_GROUP == 0) {
+                builder
+                    .endGroup()
+                    .startGroup(new ExampleGroupConfiguration.Builder().description("inner").build());
+            }
+            builder.example(example, NOOP);
+        }
+        builder.endGroup().endGroup().endGroup();
+
+        return builder.build();
+    }
+
+    @Benchmark
+    public Example[] sort() {
+        Example[] sorted = ranked.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    @Benchmark
+    public int sortInTreeSet() {
+        return new TreeSet<>(Arrays.asList(ranked)).size();
+    }
+}
@@ -0,0 +1,68 @@
+package j8spec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * Cost of {@link J8Spec#read(Class)} on specs of varying width and depth (see {@link SyntheticSpec}), from
+ * instantiating the spec class to building its examples. With the read cache the spec class is instantiated only
+ * once, so what is left is the cost of building the examples from the definition.
+ */
+@State(Scope.Thread)
+public class ReadBenchmark {
+
+    /**
+     * Turns the read cache on for the benchmarks that take it, so that the system property is not written while
+     * they are measured.
+     */
+    @State(Scope.Benchmark)
+    public static class Cache {
+        @Setup(Level.Trial)
+        public void enable() {
+            System.setProperty("j8spec.read.cache", "true");
+        }
+
+        @TearDown(Level.Trial)
+        public void disable() {
+            System.clearProperty("j8spec.read.cache");
+        }
+    }
+
+    @Param({"4", "16"})
+    public int width;
+
+    @Param({"1", "3"})
+    public int depth;
+
+    @Setup(Level.Trial)
+    public void shapeSpec() {
+        SyntheticSpec.use(new SyntheticSpec.Shape.Builder()
+            .fanOut(width)
+            .depth(depth)
+            .examplesPerGroup(width)
+            .hooksPerGroup(1)
+            .build());
+    }
+
+    @Benchmark
+    public List<Example> read() {
+        return J8Spec.read(SyntheticSpec.InDefinedOrder.class);
+    }
+
+    @Benchmark
+    public List<Example> readCached(Cache cache) {
+        return J8Spec.read(SyntheticSpec.InDefinedOrder.class);
+    }
+
+    @Benchmark
+    public long stream() {
+        return J8Spec.stream(SyntheticSpec.InDefinedOrder.class).count();
+    }
+}
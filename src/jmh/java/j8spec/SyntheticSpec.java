@@ -0,0 +1,196 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.RandomOrder;
+
+import java.util.Random;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.afterEach;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.fit;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.let;
+import static j8spec.J8Spec.var;
+import static j8spec.J8Spec.xit;
+
+/**
+ * Spec generated from a {@link Shape} set with {@link #use(Shape)} before it is read, for experiments on how
+ * reading, building and running specs scale with their size. Examples are shuffled in random order with a fixed
+ * seed; {@link InDefinedOrder} has the same examples in defined order.
+ */
+@RandomOrder(seed = 0)
+public class SyntheticSpec {
+
+    /**
+     * Same as {@link SyntheticSpec}, in defined order.
+     */
+    @DefinedOrder
+    public static class InDefinedOrder extends SyntheticSpec {}
+
+    /**
+     * Every example group has <code>examplesPerGroup</code> examples, <code>hooksPerGroup</code> hooks of each
+     * kind and <code>variablesPerGroup</code> variables initialized with <code>let</code>, which its examples read.
+     * Example groups less than <code>depth</code> levels below the spec have <code>fanOut</code> inner groups.
+     * Examples are ignored or focused at random, in the given ratios.
+     */
+    public static final class Shape {
+
+        public static final class Builder {
+            private int fanOut = 1;
+            private int depth;
+            private int examplesPerGroup = 1;
+            private int hooksPerGroup;
+            private int variablesPerGroup;
+            private double ignoredRatio;
+            private double focusedRatio;
+            private long seed;
+
+            public Builder fanOut(int fanOut) {
+                this.fanOut = fanOut;
+                return this;
+            }
+
+            public Builder depth(int depth) {
+                this.depth = depth;
+                return this;
+            }
+
+            public Builder examplesPerGroup(int examplesPerGroup) {
+                this.examplesPerGroup = examplesPerGroup;
+                return this;
+            }
+
+            public Builder hooksPerGroup(int hooksPerGroup) {
+                this.hooksPerGroup = hooksPerGroup;
+                return this;
+            }
+
+            public Builder variablesPerGroup(int variablesPerGroup) {
+                this.variablesPerGroup = variablesPerGroup;
+                return this;
+            }
+
+            public Builder ignoredRatio(double ignoredRatio) {
+                this.ignoredRatio = ignoredRatio;
+                return this;
+            }
+
+            public Builder focusedRatio(double focusedRatio) {
+                this.focusedRatio = focusedRatio;
+                return this;
+            }
+
+            public Builder seed(long seed) {
+                this.seed = seed;
+                return this;
+            }
+
+            public Shape build() {
+                if (ignoredRatio + focusedRatio > 1) {
+                    throw new IllegalArgumentException("ignored and focused ratios add up to more than 1");
+                }
+                return new Shape(this);
+            }
+        }
+
+        private final int fanOut;
+        private final int depth;
+        private final int examplesPerGroup;
+        private final int hooksPerGroup;
+        private final int variablesPerGroup;
+        private final double ignoredRatio;
+        private final double focusedRatio;
+        private final long seed;
+
+        private Shape(Builder builder) {
+            this.fanOut = builder.fanOut;
+            this.depth = builder.depth;
+            this.examplesPerGroup = builder.examplesPerGroup;
+            this.hooksPerGroup = builder.hooksPerGroup;
+            this.variablesPerGroup = builder.variablesPerGroup;
+            this.ignoredRatio = builder.ignoredRatio;
+            this.focusedRatio = builder.focusedRatio;
+            this.seed = builder.seed;
+        }
+
+        public long groups() {
+            long groups = 0;
+            long groupsAtLevel = 1;
+            for (int level = 0; level <= depth; level++) {
+                groups += groupsAtLevel;
+                groupsAtLevel *= fanOut;
+            }
+            return groups;
+        }
+
+        public long examples() {
+            return groups() * examplesPerGroup;
+        }
+
+        @Override
+        public String toString() {
+            return "fanOut=" + fanOut + ", depth=" + depth + ", examplesPerGroup=" + examplesPerGroup
+                + ", hooksPerGroup=" + hooksPerGroup + ", variablesPerGroup=" + variablesPerGroup
+                + ", ignoredRatio=" + ignoredRatio + ", focusedRatio=" + focusedRatio;
+        }
+    }
+
+    private static volatile Shape shape = new Shape.Builder().build();
+
+    public static void use(Shape shape) {
+        SyntheticSpec.shape = shape;
+    }
+
+    public static Shape shape() {
+        return shape;
+    }
+
+    {
+        Shape shape = SyntheticSpec.shape;
+        define(shape, 0, new Random(shape.seed));
+    }
+
+    private static void define(Shape shape, int level, Random random) {
+        for (int i = 0; i < shape.hooksPerGroup; i++) {
+            beforeAll(() -> {});
+            beforeEach(() -> {});
+            afterEach(() -> {});
+            afterAll(() -> {});
+        }
+
+        Var<?>[] vars = new Var<?>[shape.variablesPerGroup];
+        for (int i = 0; i < vars.length; i++) {
+            Var<Integer> var = var();
+            int value = i;
+            let(var, () -> value);
+            vars[i] = var;
+        }
+
+        for (int i = 0; i < shape.examplesPerGroup; i++) {
+            String description = "example " + i;
+            UnsafeBlock block = () -> {
+                for (Var<?> var : vars) {
+                    var(var);
+                }
+            };
+
+            double kind = random.nextDouble();
+            if (kind < shape.ignoredRatio) {
+                xit(description, block);
+            } else if (kind < shape.ignoredRatio + shape.focusedRatio) {
+                fit(description, block);
+            } else {
+                it(description, block);
+            }
+        }
+
+        if (level < shape.depth) {
+            for (int i = 0; i < shape.fanOut; i++) {
+                describe("group " + i, () -> define(shape, level + 1, random));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.SyntheticSpec;
+import org.junit.runner.Description;
+import org.junit.runners.model.InitializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of describing the examples of a spec to JUnit: creating a {@link J8SpecRunner}, which builds the description
+ * of every example, and looking the descriptions up afterwards. The spec is read from the read cache, so reading
+ * it weighs as little as possible.
+ */
+@State(Scope.Thread)
+public class RunnerBenchmark {
+
+    @Param({"1", "2", "3"})
+    public int depth;
+
+    private J8SpecRunner runner;
+
+    @Setup
+    public void createRunner() throws InitializationError {
+        SyntheticSpec.use(new SyntheticSpec.Shape.Builder().fanOut(10).depth(depth).examplesPerGroup(10).build());
+        System.setProperty("j8spec.read.cache", "true");
+        runner = new J8SpecRunner(SyntheticSpec.InDefinedOrder.class);
+    }
+
+    @TearDown
+    public void disableCache() {
+        System.clearProperty("j8spec.read.cache");
+    }
+
+    @Benchmark
+    public J8SpecRunner newRunner() throws InitializationError {
+        return new J8SpecRunner(SyntheticSpec.InDefinedOrder.class);
+    }
+
+    @Benchmark
+    public void describeChildren(Blackhole blackhole) {
+        for (Example example : runner.getChildren()) {
+            blackhole.consume(runner.describeChild(example));
+        }
+    }
+
+    @Benchmark
+    public Description getDescription() {
+        return runner.getDescription();
+    }
+}
@@ -0,0 +1,56 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.J8Spec;
+import j8spec.SyntheticSpec;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to read, describe and run a {@link SyntheticSpec} of 72 to about 300,000 examples, eight times more at each
+ * step. Dividing the scores by the number of examples gives a curve that stays flat unless something grows faster
+ * than the spec; <code>-prof gc</code> does the same for allocations. {@link ScalingReport} also measures the heap
+ * retained by the examples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScalingBenchmark {
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int depth;
+
+    private J8SpecRunner runner;
+
+    @Setup
+    public void generateSpec() throws InitializationError {
+        SyntheticSpec.use(ScalingReport.shape(depth));
+        runner = new J8SpecRunner(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    public List<Example> read() {
+        return J8Spec.read(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    public J8SpecRunner newRunner() throws InitializationError {
+        return new J8SpecRunner(SyntheticSpec.class);
+    }
+
+    @Benchmark
+    public void run() {
+        runner.run(new RunNotifier());
+    }
+}
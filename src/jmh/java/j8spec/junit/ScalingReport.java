@@ -0,0 +1,102 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.J8Spec;
+import j8spec.SyntheticSpec;
+import org.junit.runner.notification.RunNotifier;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+
+/**
+ * Prints, as CSV, how the time to read, describe and run a {@link SyntheticSpec} and the heap retained by its
+ * examples grow with the number of examples, per example, so super-linear behaviour shows up as a rising column.
+ * Takes the maximum depth (5 by default) and an optional file to write to instead of the standard output. A first
+ * pass, left out of the report, warms the JIT up.
+ */
+public final class ScalingReport {
+
+    private static final int REPETITIONS = 5;
+
+    static SyntheticSpec.Shape shape(int depth) {
+        return new SyntheticSpec.Shape.Builder()
+            .fanOut(8)
+            .depth(depth)
+            .examplesPerGroup(8)
+            .hooksPerGroup(1)
+            .variablesPerGroup(1)
+            .ignoredRatio(0.1)
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        if (args.length > 1) {
+            try (PrintStream out = new PrintStream(new FileOutputStream(args[1]))) {
+                report(maxDepth, out);
+            }
+        } else {
+            report(maxDepth, System.out);
+            System.out.flush();
+        }
+    }
+
+    private static void report(int maxDepth, PrintStream out) throws Exception {
+        report(shape(Math.min(maxDepth, 3)), new PrintStream(new ByteArrayOutputStream()));
+
+        out.println("examples,groups,read ns/example,runner ns/example,run ns/example,retained bytes/example");
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            report(shape(depth), out);
+        }
+    }
+
+    private static void report(SyntheticSpec.Shape shape, PrintStream out) throws Exception {
+        SyntheticSpec.use(shape);
+        long examples = shape.examples();
+
+        long read = Long.MAX_VALUE;
+        long describe = Long.MAX_VALUE;
+        long run = Long.MAX_VALUE;
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            J8Spec.read(SyntheticSpec.class);
+            read = Math.min(read, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            J8SpecRunner runner = new J8SpecRunner(SyntheticSpec.class);
+            describe = Math.min(describe, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            runner.run(new RunNotifier());
+            run = Math.min(run, System.nanoTime() - start);
+        }
+
+        out.println(examples + "," + shape.groups() + "," + read / examples + "," + describe / examples + ","
+            + run / examples + "," + retainedBytes() / examples);
+    }
+
+    private static long retainedBytes() throws IOException {
+        long before = usedHeap();
+        List<Example> retained = J8Spec.read(SyntheticSpec.class);
+        long after = usedHeap();
+        if (retained.isEmpty()) {
+            throw new IllegalStateException("no examples");
+        }
+        return Math.max(0, after - before);
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private ScalingReport() {}
+}
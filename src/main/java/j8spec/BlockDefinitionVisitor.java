@@ -6,7 +6,11 @@ abstract class BlockDefinitionVisitor {
         return this;
     }
 
-    <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+    final <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+        return varInitializer(var, VarScope.GROUP, initFunction);
+    }
+
+    <T> BlockDefinitionVisitor varInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
         return this;
     }
 
@@ -42,6 +42,10 @@ final class BlockDefinitions {
             return config.description();
         }
 
+        ExampleConfiguration config() {
+            return config;
+        }
+
         @Override
         public void accept(BlockDefinitionVisitor visitor) {
             visitor.example(config, block());
@@ -68,16 +72,18 @@ final class BlockDefinitions {
 
     static final class VarInitializer<T> implements BlockDefinition {
         private final Var<T> var;
+        private final VarScope scope;
         private final UnsafeFunction<T> initFunction;
 
-        VarInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+        VarInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
             this.var = var;
+            this.scope = scope;
             this.initFunction = initFunction;
         }
 
         @Override
         public void accept(BlockDefinitionVisitor visitor) {
-            visitor.varInitializer(var, initFunction);
+            visitor.varInitializer(var, scope, initFunction);
         }
     }
 }
@@ -1,19 +1,38 @@
 package j8spec;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import static j8spec.BlockExecutionFlag.FOCUSED;
 import static j8spec.BlockExecutionStrategy.BLACK_LIST;
 import static j8spec.BlockExecutionStrategy.WHITE_LIST;
 
 final class BlockExecutionStrategySelector extends BlockDefinitionVisitor {
 
+    private final GroupSelection selection;
+    private final Deque<String> names = new ArrayDeque<>();
     private BlockExecutionStrategy strategy = BLACK_LIST;
 
+    BlockExecutionStrategySelector() {
+        this(null);
+    }
+
+    /*
+     * With a selection, focus only counts in the example groups that may hold selected examples.
+     */
+    BlockExecutionStrategySelector(GroupSelection selection) {
+        this.selection = selection;
+    }
+
     BlockExecutionStrategy strategy() {
         return strategy;
     }
 
     @Override
     BlockDefinitionVisitor startGroup(ExampleGroupConfiguration config) {
+        if (selection != null) {
+            names.push(names.isEmpty() ? "" : selection.name(names.peek(), config.description()));
+        }
         selectStrategy(config.executionFlag());
         return this;
     }
@@ -24,8 +43,16 @@ final class BlockExecutionStrategySelector extends BlockDefinitionVisitor {
         return this;
     }
 
+    @Override
+    BlockDefinitionVisitor endGroup() {
+        if (selection != null) {
+            names.pop();
+        }
+        return this;
+    }
+
     private void selectStrategy(BlockExecutionFlag executionFlag) {
-        if (FOCUSED.equals(executionFlag)) {
+        if (FOCUSED.equals(executionFlag) && (selection == null || selection.mayContainSelected(names.peek()))) {
             strategy = WHITE_LIST;
         }
     }
@@ -35,7 +35,7 @@ final class DuplicatedBlockValidator extends BlockDefinitionVisitor {
     }
 
     @Override
-    <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
+    <T> BlockDefinitionVisitor varInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
         if (varInitializers.peekLast().contains(var)) {
             throw new Exceptions.VariableInitializerAlreadyDefined();
         }
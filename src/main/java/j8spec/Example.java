@@ -1,11 +1,17 @@
 package j8spec;
 
+import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import static j8spec.PhaseListener.Phase.AFTER_ALL;
+import static j8spec.PhaseListener.Phase.AFTER_EACH;
+import static j8spec.PhaseListener.Phase.BEFORE_ALL;
+import static j8spec.PhaseListener.Phase.BEFORE_EACH;
+import static j8spec.PhaseListener.Phase.BODY;
+import static j8spec.PhaseListener.Phase.VAR_INITIALIZERS;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.unmodifiableList;
 
 /**
  * Example ready to be executed.
@@ -13,55 +19,46 @@ import static java.util.Collections.unmodifiableList;
  */
 public final class Example implements UnsafeBlock, Comparable<Example> {
 
-    private static final Predicate<UnsafeBlock> ALL = whatever -> true;
+    /*
+     * Shared by all examples of a spec, so each of them can tell in constant time whether a "before all" hook
+     * failed in itself or in an earlier example.
+     */
+    static final class Sequence {
+        private int firstBeforeAllHookFailure = Integer.MAX_VALUE;
+
+        void beforeAllHookFailed(int position) {
+            firstBeforeAllHookFailure = Math.min(firstBeforeAllHookFailure, position);
+        }
+
+        boolean hasBeforeAllHookFailed(int position) {
+            return firstBeforeAllHookFailure <= position;
+        }
+    }
 
     static final class Builder {
 
-        private List<String> containerDescriptions = emptyList();
+        private GroupPath groupPath;
+        private ExampleGroup group;
         private String description;
-        private List<VarInitializer<?>> varInitializers = emptyList();
-        private List<UnsafeBlock> beforeAllHooks = emptyList();
-        private List<UnsafeBlock> beforeEachHooks = emptyList();
-        private List<UnsafeBlock> afterEachHooks = emptyList();
-        private List<UnsafeBlock> afterAllHooks = emptyList();
         private UnsafeBlock block;
+        private boolean ignored;
         private Class<? extends Throwable> expectedException;
         private long timeout;
         private TimeUnit timeoutUnit;
         private Rank rank;
 
-        Builder containerDescriptions(List<String> containerDescriptions) {
-            this.containerDescriptions = containerDescriptions;
-            return this;
-        }
-
-        Builder description(String description) {
-            this.description = description;
-            return this;
-        }
-
-        Builder varInitializers(List<VarInitializer<?>> varInitializers) {
-            this.varInitializers = varInitializers;
-            return this;
-        }
-
-        Builder beforeAllHooks(List<UnsafeBlock> beforeAllHooks) {
-            this.beforeAllHooks = beforeAllHooks;
+        Builder groupPath(GroupPath groupPath) {
+            this.groupPath = groupPath;
             return this;
         }
 
-        Builder beforeEachHooks(List<UnsafeBlock> beforeHooks) {
-            this.beforeEachHooks = beforeHooks;
+        Builder group(ExampleGroup group) {
+            this.group = group;
             return this;
         }
 
-        Builder afterEachHooks(List<UnsafeBlock> afterHooks) {
-            this.afterEachHooks = afterHooks;
-            return this;
-        }
-
-        Builder afterAllHooks(List<UnsafeBlock> afterAllHooks) {
-            this.afterAllHooks = afterAllHooks;
+        Builder description(String description) {
+            this.description = description;
             return this;
         }
 
@@ -82,6 +79,7 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
 
         Builder ignored() {
             this.block = NOOP;
+            this.ignored = true;
             return this;
         }
 
@@ -93,14 +91,11 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
 
         Example build() {
             return new Example(
-                containerDescriptions,
+                groupPath,
+                group == null ? new ExampleGroup(null, false) : group,
                 description,
-                varInitializers,
-                beforeAllHooks,
-                beforeEachHooks,
-                afterEachHooks,
-                afterAllHooks,
                 block,
+                ignored,
                 expectedException,
                 timeout,
                 timeoutUnit,
@@ -109,54 +104,91 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
         }
     }
 
-    private final List<String> containerDescriptions;
+    private static final ExampleGroup[] NO_GROUPS = {};
+
+    private final GroupPath groupPath;
+    private final ExampleGroup group;
     private final String description;
-    private final List<VarInitializer<?>> varInitializers;
-    private final List<UnsafeBlock> beforeAllHooks;
-    private final List<UnsafeBlock> beforeEachHooks;
-    private final List<UnsafeBlock> afterEachHooks;
-    private final List<UnsafeBlock> afterAllHooks;
     private final UnsafeBlock block;
+    private final boolean ignored;
     private final Class<? extends Throwable> expectedException;
     private final long timeout;
     private final TimeUnit timeoutUnit;
     private final Rank rank;
 
-    private Example previous;
-    private Example next;
-    private boolean beforeAllHookFailed = false;
+    /*
+     * Set when the example is linked with the other examples it is executed with; until then it runs no "before
+     * all" or "after all" hooks.
+     */
+    private Sequence sequence = new Sequence();
+    private int position;
+    private ExampleGroup[] openedGroups = NO_GROUPS;
+    private ExampleGroup[] closedGroups = NO_GROUPS;
+    private boolean variablesChecked;
+    private boolean usesVariables;
 
     private Example(
-        List<String> containerDescriptions,
+        GroupPath groupPath,
+        ExampleGroup group,
         String description,
-        List<VarInitializer<?>> varInitializers,
-        List<UnsafeBlock> beforeAllHooks,
-        List<UnsafeBlock> beforeEachHooks,
-        List<UnsafeBlock> afterEachHooks,
-        List<UnsafeBlock> afterAllHooks,
         UnsafeBlock block,
+        boolean ignored,
         Class<? extends Throwable> expectedException,
         long timeout,
         TimeUnit timeoutUnit,
         Rank rank
     ) {
-        this.containerDescriptions = unmodifiableList(containerDescriptions);
+        this.groupPath = groupPath;
+        this.group = group;
         this.description = description;
-        this.varInitializers = unmodifiableList(varInitializers);
-        this.beforeAllHooks = unmodifiableList(beforeAllHooks);
-        this.beforeEachHooks = unmodifiableList(beforeEachHooks);
-        this.afterEachHooks = unmodifiableList(afterEachHooks);
-        this.afterAllHooks = unmodifiableList(afterAllHooks);
         this.block = block;
+        this.ignored = ignored;
         this.expectedException = expectedException;
         this.timeout = timeout;
         this.timeoutUnit = timeoutUnit;
         this.rank = rank;
     }
 
-    void previous(Example example) { previous = example; }
+    /*
+     * Groups from the outermost to the innermost one.
+     */
+    private static ExampleGroup[] chain(ExampleGroup group, Predicate<ExampleGroup> filter) {
+        LinkedList<ExampleGroup> chain = new LinkedList<>();
+        for (ExampleGroup current = group; current != null; current = current.parent()) {
+            if (filter.test(current)) {
+                chain.addFirst(current);
+            }
+        }
+        return chain.isEmpty() ? NO_GROUPS : chain.toArray(new ExampleGroup[chain.size()]);
+    }
 
-    void next(Example example) { next = example; }
+    ExampleGroup[] beforeAllGroups() {
+        return ignored ? NO_GROUPS : chain(group, ExampleGroup::hasBeforeAllHooks);
+    }
+
+    ExampleGroup[] afterAllGroups() {
+        return ignored ? NO_GROUPS : chain(group, ExampleGroup::hasAfterAllHooks);
+    }
+
+    void link(Sequence sequence, int position, ExampleGroup[] openedGroups, ExampleGroup[] closedGroups) {
+        this.sequence = sequence;
+        this.position = position;
+        this.openedGroups = openedGroups.length == 0 ? NO_GROUPS : openedGroups;
+        this.closedGroups = closedGroups.length == 0 ? NO_GROUPS : closedGroups;
+    }
+
+    /**
+     * Prepares a subset of the examples of a spec to be executed on their own: the "before all" and "after all"
+     * hooks of each example group run along with the first and the last of the given examples in it, and not at
+     * all for example groups that none of them belongs to.
+     *
+     * @param examples examples of the same spec, in execution order
+     * @return the given examples
+     * @since 3.1.0
+     */
+    public static List<Example> relink(List<Example> examples) {
+        return ExampleBuilder.link(examples);
+    }
 
     @Override
     public int compareTo(Example block) { return rank.compareTo(block.rank); }
@@ -167,38 +199,172 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      */
     @Override
     public void tryToExecute() throws Throwable {
+        tryToExecute(openedGroups, closedGroups, null);
+    }
+
+    /**
+     * Runs this example and associated hooks, reporting how long each phase took.
+     *
+     * @param listener listener to report phases to, <code>null</code> to run the example as
+     *                 {@link #tryToExecute()} does
+     * @throws Throwable if the example or one of its hooks fails
+     * @since 3.1.0
+     */
+    public void tryToExecute(PhaseListener listener) throws Throwable {
+        tryToExecute(openedGroups, closedGroups, listener);
+    }
+
+    /**
+     * Runs this example and its "each" hooks, leaving the "before all" and "after all" hooks to whoever
+     * executes the enclosing {@link ExampleGroup}.
+     *
+     * @throws Throwable if the example or one of its hooks fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteWithinGroup() throws Throwable {
+        tryToExecute(NO_GROUPS, NO_GROUPS, null);
+    }
+
+    /**
+     * Runs this example and its "each" hooks as {@link #tryToExecuteWithinGroup()} does, reporting how long each
+     * phase took.
+     *
+     * @param listener listener to report phases to, <code>null</code> to run the example as
+     *                 {@link #tryToExecuteWithinGroup()} does
+     * @throws Throwable if the example or one of its hooks fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteWithinGroup(PhaseListener listener) throws Throwable {
+        tryToExecute(NO_GROUPS, NO_GROUPS, listener);
+    }
+
+    /*
+     * Shared by all the ways of running an example: "before all" and "after all" hooks run only for the given
+     * groups, and phases are reported only if there is a listener.
+     */
+    private void tryToExecute(ExampleGroup[] opened, ExampleGroup[] closed, PhaseListener listener) throws Throwable {
+        if (ignored) {
+            return;
+        }
+
+        if (listener == null) {
+            VarContext context = openVarContext();
+            try {
+                execute(context, opened, closed, null);
+            } finally {
+                context.close();
+            }
+            return;
+        }
+
+        listener.exampleStarted(groupPath, this);
+        long exampleStart = System.nanoTime();
+        Throwable failure = null;
+        VarContext context = openVarContext();
+        try {
+            execute(context, opened, closed, listener);
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            context.close();
+            listener.exampleFinished(groupPath, this, failure, System.nanoTime() - exampleStart);
+        }
+    }
+
+    private void execute(
+        VarContext context,
+        ExampleGroup[] opened,
+        ExampleGroup[] closed,
+        PhaseListener listener
+    ) throws Throwable {
         Exceptions.Collector collector = new Exceptions.Collector();
+        long start = started(listener);
 
-        varInitializers.forEach(collector::executeOrSkip);
+        if (context != VarContext.NONE) {
+            group.executeVarInitializers(collector);
+        }
+        start = finished(listener, VAR_INITIALIZERS, start);
         collector.haltOnFailure();
 
-        beforeAllHooks.stream().filter(firstChance()).forEach(collector::executeOrSkip);
-        beforeAllHookFailed = !collector.isEmpty();
+        if (opened.length > 0) {
+            executeBeforeAllHooks(collector, context, opened, listener);
+            start = finished(listener, BEFORE_ALL, start);
+        }
         collector.haltOnFailure();
 
-        beforeEachHooks.forEach(collector::executeOrSkip);
+        group.executeBeforeEachHooks(collector, this, listener);
+        start = finished(listener, BEFORE_EACH, start);
         collector.haltOnFailure();
 
         collector.execute(block);
-        afterEachHooks.forEach(collector::execute);
-        afterAllHooks.stream().filter(lastChance()).forEach(collector::execute);
+        start = finished(listener, BODY, start);
+        group.executeAfterEachHooks(collector, this, listener);
+        context.releaseFixtures(collector);
+        start = finished(listener, AFTER_EACH, start);
+        if (closed.length > 0) {
+            executeAfterAllHooks(collector, context, closed, listener);
+            finished(listener, AFTER_ALL, start);
+        }
         collector.haltOnFailure();
     }
 
-    private Predicate<UnsafeBlock> firstChance() {
-        return previous == null ? ALL : hook -> !previous.hasBeforeAllHook(hook);
+    /*
+     * Values assigned by "before all" and "after all" hooks are shared with the other examples of the group.
+     */
+    private void executeBeforeAllHooks(
+        Exceptions.Collector collector,
+        VarContext context,
+        ExampleGroup[] opened,
+        PhaseListener listener
+    ) {
+        context.shareWrites(true);
+        for (int i = 0; i < opened.length && collector.isEmpty(); i++) {
+            opened[i].executeBeforeAllHooks(collector, this, listener);
+        }
+        context.shareWrites(false);
+        if (!collector.isEmpty()) {
+            sequence.beforeAllHookFailed(position);
+        }
+    }
+
+    private void executeAfterAllHooks(
+        Exceptions.Collector collector,
+        VarContext context,
+        ExampleGroup[] closed,
+        PhaseListener listener
+    ) {
+        context.shareWrites(true);
+        for (int i = closed.length - 1; i >= 0; i--) {
+            closed[i].executeAfterAllHooks(collector, this, listener);
+        }
     }
 
-    private Predicate<UnsafeBlock> lastChance() {
-        return next == null ? ALL : hook -> !next.hasAfterAllHook(hook);
+    /*
+     * Examples of specs without variables do not need a context of their own. The groups are complete by the time
+     * the example runs, so they are checked only once.
+     */
+    private VarContext openVarContext() {
+        if (!variablesChecked) {
+            usesVariables = group.usesVariables();
+            variablesChecked = true;
+        }
+        return usesVariables ? VarContext.open() : VarContext.NONE;
     }
 
-    private boolean hasBeforeAllHook(UnsafeBlock hook) {
-        return beforeAllHooks.contains(hook) || previous != null && previous.hasBeforeAllHook(hook);
+    private static long started(PhaseListener listener) {
+        return listener == null ? 0 : System.nanoTime();
     }
 
-    private boolean hasAfterAllHook(UnsafeBlock hook) {
-        return afterAllHooks.contains(hook) || next != null && next.hasAfterAllHook(hook);
+    /*
+     * Time spent in the listener is not charged to the next phase.
+     */
+    private long finished(PhaseListener listener, PhaseListener.Phase phase, long start) {
+        if (listener == null) {
+            return 0;
+        }
+        listener.phaseFinished(groupPath, this, phase, System.nanoTime() - start);
+        return System.nanoTime();
     }
 
     /**
@@ -211,17 +377,34 @@ public final class Example implements UnsafeBlock, Comparable<Example> {
      * @return textual description of all outer example groups
      * @since 2.0.0
      */
-    public List<String> containerDescriptions() { return containerDescriptions; }
+    public List<String> containerDescriptions() {
+        return groupPath == null ? emptyList() : groupPath.descriptions();
+    }
+
+    /**
+     * @return path of the innermost example group this example belongs to, <code>null</code> if the example
+     * was not defined in a spec
+     * @since 3.1.0
+     */
+    public GroupPath groupPath() { return groupPath; }
+
+    /**
+     * @return position of this example in execution order, among the examples it was read or relinked with
+     * @since 3.1.0
+     */
+    public int position() { return position; }
+
+    /**
+     * @return innermost example group this example belongs to
+     * @since 3.1.0
+     */
+    public ExampleGroup group() { return group; }
 
     /**
      * @return <code>true</code> if this example should be ignored, <code>false</code> otherwise
      * @since 2.0.0
      */
-    public boolean shouldBeIgnored() { return block == NOOP || hasAnyBeforeAllHookFailed(); }
-
-    private boolean hasAnyBeforeAllHookFailed() {
-        return beforeAllHookFailed || previous != null && previous.hasAnyBeforeAllHookFailed();
-    }
+    public boolean shouldBeIgnored() { return block == NOOP || sequence.hasBeforeAllHookFailed(position); }
 
     /**
      * @return exception class this example is expected to throw, <code>null</code> otherwise
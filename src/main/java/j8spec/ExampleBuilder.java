@@ -1,39 +1,20 @@
 package j8spec;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Set;
 
-import static j8spec.BlockExecutionFlag.DEFAULT;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.newSetFromMap;
 
 final class ExampleBuilder extends BlockDefinitionVisitor {
 
-    private static List<UnsafeBlock> asHooks(Deque<List<UnsafeBlock>> hookQueue) {
-        List<UnsafeBlock> result = new LinkedList<>();
-        hookQueue.forEach(result::addAll);
-        return result;
-    }
-
-    private static List<VarInitializer<?>> allVarInitializers(Deque<List<VarInitializer<?>>> varInitializers) {
-        List<VarInitializer<?>> result = new LinkedList<>();
-        varInitializers.forEach(result::addAll);
-        return result;
-    }
-
     private final BlockExecutionStrategy executionStrategy;
-    private final Deque<String> descriptions = new LinkedList<>();
-    private final Deque<BlockExecutionFlag> executionFlags = new LinkedList<>();
-    private final Deque<List<VarInitializer<?>>> varInitializers = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> beforeAllBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> beforeEachBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> afterEachBlocks = new LinkedList<>();
-    private final Deque<List<UnsafeBlock>> afterAllBlocks = new LinkedList<>();
-    private final RankGenerator rankGenerator = new RankGenerator();
-
-    private final SortedSet<Example> examples = new TreeSet<>();
+    private final Deque<ExampleGroupDefinition> definitions = new ArrayDeque<>();
+    private ExampleGroupDefinition spec;
 
     ExampleBuilder(BlockExecutionStrategy executionStrategy) {
         this.executionStrategy = executionStrategy;
@@ -41,107 +22,104 @@ final class ExampleBuilder extends BlockDefinitionVisitor {
 
     @Override
     BlockDefinitionVisitor startGroup(ExampleGroupConfiguration config) {
-        descriptions.addLast(config.description());
+        ExampleGroupDefinition definition = definitions.isEmpty()
+            ? new ExampleGroupDefinition(config, new ExampleGroupContext())
+            : definitions.peekLast().addGroup(config);
 
-        if (executionFlags.isEmpty() || executionFlags.peekLast().equals(DEFAULT)) {
-            executionFlags.addLast(config.executionFlag());
-        } else {
-            executionFlags.addLast(executionFlags.peekLast());
+        if (spec == null) {
+            spec = definition;
         }
-
-        varInitializers.addLast(new LinkedList<>());
-        beforeAllBlocks.addLast(new LinkedList<>());
-        beforeEachBlocks.addLast(new LinkedList<>());
-        afterEachBlocks.addFirst(new LinkedList<>());
-        afterAllBlocks.addFirst(new LinkedList<>());
-
-        rankGenerator.pushLevel(config);
+        definitions.addLast(definition);
 
         return this;
     }
 
     @Override
-    <T> BlockDefinitionVisitor varInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
-        varInitializers.peekLast().add(new VarInitializer<>(var, initFunction));
+    <T> BlockDefinitionVisitor varInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
+        definitions.peekLast().addVarInitializer(var, scope, initFunction);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor beforeAll(UnsafeBlock block) {
-        beforeAllBlocks.peekLast().add(block);
+        definitions.peekLast().addBeforeAll(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor beforeEach(UnsafeBlock block) {
-        beforeEachBlocks.peekLast().add(block);
+        definitions.peekLast().addBeforeEach(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor afterEach(UnsafeBlock block) {
-        afterEachBlocks.peekFirst().add(block);
+        definitions.peekLast().addAfterEach(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor afterAll(UnsafeBlock block) {
-        afterAllBlocks.peekFirst().add(block);
+        definitions.peekLast().addAfterAll(block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor example(ExampleConfiguration config, UnsafeBlock block) {
-        Example.Builder builder = new Example.Builder()
-            .containerDescriptions(new LinkedList<>(descriptions))
-            .description(config.description())
-            .rank(rankGenerator.generate());
-
-        if (executionStrategy.shouldBeIgnored(config.executionFlag(), executionFlags.peekLast())) {
-            builder.ignored();
-        } else {
-            builder
-                .varInitializers(allVarInitializers(varInitializers))
-                .beforeAllHooks(asHooks(beforeAllBlocks))
-                .beforeEachHooks(asHooks(beforeEachBlocks))
-                .afterEachHooks(asHooks(afterEachBlocks))
-                .afterAllHooks(asHooks(afterAllBlocks))
-                .block(block)
-                .expectedException(config.expectedException())
-                .timeout(config.timeout(), config.timeoutUnit());
-        }
-
-        examples.add(builder.build());
-
+        definitions.peekLast().addExample(config, block);
         return this;
     }
 
     @Override
     BlockDefinitionVisitor endGroup() {
-        descriptions.removeLast();
-        executionFlags.removeLast();
-        varInitializers.removeLast();
-        beforeAllBlocks.removeLast();
-        beforeEachBlocks.removeLast();
-        afterEachBlocks.removeFirst();
-        afterAllBlocks.removeFirst();
-        rankGenerator.popLevel();
+        definitions.removeLast();
         return this;
     }
 
     List<Example> build() {
-        ArrayList<Example> result = new ArrayList<>(examples);
+        if (spec == null) {
+            return emptyList();
+        }
 
-        if (result.size() > 1) {
-            for (int i = 0; i < result.size() - 1; i++) {
-                result.get(i).next(result.get(i + 1));
-            }
+        List<Example> examples = new ArrayList<>();
+        new ExampleIterator(spec, executionStrategy).forEachRemaining(examples::add);
+        return examples;
+    }
 
-            for (int j = result.size() - 1; j > 0; j--) {
-                result.get(j).previous(result.get(j - 1));
-            }
+    /*
+     * Works out, in a single pass in each direction, which groups each example is the first to enter (and so runs
+     * their "before all" hooks) and which groups it is the last to leave (and so runs their "after all" hooks).
+     */
+    static List<Example> link(List<Example> examples) {
+        int size = examples.size();
+        ExampleGroup[][] openedGroups = new ExampleGroup[size][];
+        ExampleGroup[][] closedGroups = new ExampleGroup[size][];
+
+        Set<ExampleGroup> seen = newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < size; i++) {
+            openedGroups[i] = unseen(examples.get(i).beforeAllGroups(), seen);
         }
 
-        return result;
+        seen.clear();
+        for (int i = size - 1; i >= 0; i--) {
+            closedGroups[i] = unseen(examples.get(i).afterAllGroups(), seen);
+        }
+
+        Example.Sequence sequence = new Example.Sequence();
+        for (int i = 0; i < size; i++) {
+            examples.get(i).link(sequence, i, openedGroups[i], closedGroups[i]);
+        }
+
+        return examples;
+    }
+
+    private static ExampleGroup[] unseen(ExampleGroup[] groups, Set<ExampleGroup> seen) {
+        List<ExampleGroup> result = new ArrayList<>(groups.length);
+        for (ExampleGroup group : groups) {
+            if (seen.add(group)) {
+                result.add(group);
+            }
+        }
+        return result.toArray(new ExampleGroup[result.size()]);
     }
 }
@@ -42,6 +42,15 @@ public final class ExampleConfiguration {
         /**
          * Specifies the time to wait before timing out the example.
          *
+         * <p>
+         *     Timeouts are cooperative: the example runs on the thread that executes it and is interrupted when the
+         *     timeout expires. It fails as soon as it stops, so code that does not respond to interruption, such as
+         *     a busy loop, runs to completion first. When the system property
+         *     <code>j8spec.junit.timeout.abandon</code> is <code>true</code>, {@link j8spec.junit.J8SpecRunner}
+         *     runs timed examples on a thread of their own instead, and fails and abandons them when the timeout
+         *     expires.
+         * </p>
+         *
          * @param timeout the maximum time to wait
          * @param unit the time unit of the {@code timeout} argument
          * @return this
@@ -0,0 +1,253 @@
+package j8spec;
+
+import java.util.Arrays;
+
+import static j8spec.PhaseListener.Phase.AFTER_ALL;
+import static j8spec.PhaseListener.Phase.AFTER_EACH;
+import static j8spec.PhaseListener.Phase.BEFORE_ALL;
+import static j8spec.PhaseListener.Phase.BEFORE_EACH;
+
+/**
+ * Example group ready to be executed, as seen by the examples it contains.
+ *
+ * <p>
+ *     Each group holds only the hooks defined in it and points to its enclosing group, so all examples of a group
+ *     share the same chain of hooks.
+ * </p>
+ *
+ * <p>
+ *     Also used by execution engines that schedule whole groups at once and therefore run the "before all" and
+ *     "after all" hooks themselves instead of leaving them to the first and last example of the group.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class ExampleGroup {
+
+    private static final VarInitializer<?>[] NO_VAR_INITIALIZERS = {};
+    private static final UnsafeBlock[] NO_HOOKS = {};
+
+    private final GroupPath groupPath;
+    private final ExampleGroup parent;
+    private final ExampleGroup[] path;
+    private final boolean concurrentExamples;
+    private boolean variables;
+    private VarInitializer<?>[] varInitializers = NO_VAR_INITIALIZERS;
+    private UnsafeBlock[] beforeAllHooks = NO_HOOKS;
+    private UnsafeBlock[] beforeEachHooks = NO_HOOKS;
+    private UnsafeBlock[] afterEachHooks = NO_HOOKS;
+    private UnsafeBlock[] afterAllHooks = NO_HOOKS;
+
+    ExampleGroup(ExampleGroup parent, boolean concurrentExamples) {
+        this(null, parent, concurrentExamples);
+    }
+
+    ExampleGroup(GroupPath groupPath, ExampleGroup parent, boolean concurrentExamples) {
+        this.groupPath = groupPath;
+        this.parent = parent;
+        this.path = parent == null ? new ExampleGroup[] {this} : append(parent.path, this);
+        this.concurrentExamples = concurrentExamples;
+    }
+
+    /*
+     * Set on the outermost group of a spec that created variables while it was read.
+     */
+    void declareVariables() {
+        variables = true;
+    }
+
+    /*
+     * Whether examples of this group may keep variable values or lease fixtures of their own.
+     */
+    boolean usesVariables() {
+        for (ExampleGroup group : path) {
+            if (group.variables || group.varInitializers.length > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void addVarInitializer(VarInitializer<?> varInitializer) {
+        varInitializers = append(varInitializers, varInitializer);
+    }
+
+    void addBeforeAllHook(UnsafeBlock block) {
+        beforeAllHooks = append(beforeAllHooks, block);
+    }
+
+    void addBeforeEachHook(UnsafeBlock block) {
+        beforeEachHooks = append(beforeEachHooks, block);
+    }
+
+    void addAfterEachHook(UnsafeBlock block) {
+        afterEachHooks = append(afterEachHooks, block);
+    }
+
+    void addAfterAllHook(UnsafeBlock block) {
+        afterAllHooks = append(afterAllHooks, block);
+    }
+
+    private static <T> T[] append(T[] blocks, T block) {
+        T[] result = Arrays.copyOf(blocks, blocks.length + 1);
+        result[blocks.length] = block;
+        return result;
+    }
+
+    boolean hasBeforeAllHooks() { return beforeAllHooks.length > 0; }
+
+    boolean hasAfterAllHooks() { return afterAllHooks.length > 0; }
+
+    /*
+     * Variable initializers and "before each" hooks run from the outermost group inwards, "after each" hooks from
+     * the innermost group outwards. The path is walked with plain loops rather than by recursion so the collector
+     * stays local to the calling method.
+     */
+
+    void executeVarInitializers(Exceptions.Collector collector) {
+        for (ExampleGroup group : path) {
+            collector.executeAllOrSkip(group.varInitializers);
+        }
+    }
+
+    /*
+     * Hooks are reported to the listener, if any, along with the group they belong to and their position there.
+     * "before" hooks are skipped after a failure, "after" hooks always run.
+     */
+
+    void executeBeforeAllHooks(Exceptions.Collector collector, Example example, PhaseListener listener) {
+        execute(collector, beforeAllHooks, true, BEFORE_ALL, example, listener);
+    }
+
+    void executeBeforeEachHooks(Exceptions.Collector collector, Example example, PhaseListener listener) {
+        for (ExampleGroup group : path) {
+            group.execute(collector, group.beforeEachHooks, true, BEFORE_EACH, example, listener);
+        }
+    }
+
+    void executeAfterEachHooks(Exceptions.Collector collector, Example example, PhaseListener listener) {
+        for (int i = path.length - 1; i >= 0; i--) {
+            path[i].execute(collector, path[i].afterEachHooks, false, AFTER_EACH, example, listener);
+        }
+    }
+
+    void executeAfterAllHooks(Exceptions.Collector collector, Example example, PhaseListener listener) {
+        execute(collector, afterAllHooks, false, AFTER_ALL, example, listener);
+    }
+
+    private void execute(
+        Exceptions.Collector collector,
+        UnsafeBlock[] hooks,
+        boolean skipOnFailure,
+        PhaseListener.Phase phase,
+        Example example,
+        PhaseListener listener
+    ) {
+        for (int i = 0; i < hooks.length && (!skipOnFailure || collector.isEmpty()); i++) {
+            if (listener == null) {
+                collector.execute(hooks[i]);
+                continue;
+            }
+            listener.hookStarted(groupPath, phase, i, example);
+            long start = System.nanoTime();
+            Throwable failure = collector.execute(hooks[i]);
+            listener.hookFinished(groupPath, phase, i, example, failure, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return path of this example group, <code>null</code> if the group was not defined in a spec
+     * @since 3.1.0
+     */
+    public GroupPath groupPath() { return groupPath; }
+
+    /**
+     * @return the enclosing example group, <code>null</code> if this is the spec itself
+     * @since 3.1.0
+     */
+    public ExampleGroup parent() { return parent; }
+
+    /**
+     * @return <code>true</code> if the examples in this group can be executed concurrently with each other,
+     * <code>false</code> otherwise
+     * @see j8spec.annotation.ConcurrentExamples
+     * @since 3.1.0
+     */
+    public boolean allowsConcurrentExamples() { return concurrentExamples; }
+
+    /**
+     * Initializes the variables visible in this group and then runs the "before all" hooks defined in it.
+     * Hooks of the enclosing groups are not executed.
+     *
+     * @throws Throwable if a variable initializer or a hook fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteBeforeAllHooks() throws Throwable {
+        tryToExecuteBeforeAllHooks(null, null);
+    }
+
+    /**
+     * Same as {@link #tryToExecuteBeforeAllHooks()}, reporting how long each hook took.
+     *
+     * @param example example the hooks are executed for
+     * @param listener listener to report hooks to, <code>null</code> to run the hooks as
+     *                 {@link #tryToExecuteBeforeAllHooks()} does
+     * @throws Throwable if a variable initializer or a hook fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteBeforeAllHooks(Example example, PhaseListener listener) throws Throwable {
+        tryToExecuteGroupHooks(true, example, listener);
+    }
+
+    /**
+     * Initializes the variables visible in this group and then runs the "after all" hooks defined in it.
+     * Hooks of the enclosing groups are not executed.
+     *
+     * @throws Throwable if a variable initializer or a hook fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteAfterAllHooks() throws Throwable {
+        tryToExecuteAfterAllHooks(null, null);
+    }
+
+    /**
+     * Same as {@link #tryToExecuteAfterAllHooks()}, reporting how long each hook took.
+     *
+     * @param example example the hooks are executed for
+     * @param listener listener to report hooks to, <code>null</code> to run the hooks as
+     *                 {@link #tryToExecuteAfterAllHooks()} does
+     * @throws Throwable if a variable initializer or a hook fails
+     * @since 3.1.0
+     */
+    public void tryToExecuteAfterAllHooks(Example example, PhaseListener listener) throws Throwable {
+        tryToExecuteGroupHooks(false, example, listener);
+    }
+
+    /*
+     * Hooks of sibling groups may run at the same time, so, as for an example, the variable initializers run in a
+     * context of their own, and only the values assigned by the hooks are shared with the examples of the group.
+     */
+    private void tryToExecuteGroupHooks(boolean before, Example example, PhaseListener listener) throws Throwable {
+        VarContext context = usesVariables() ? VarContext.open() : VarContext.NONE;
+        try {
+            Exceptions.Collector collector = new Exceptions.Collector();
+
+            if (context != VarContext.NONE) {
+                executeVarInitializers(collector);
+            }
+            collector.haltOnFailure();
+
+            context.shareWrites(true);
+            if (before) {
+                executeBeforeAllHooks(collector, example, listener);
+            } else {
+                executeAfterAllHooks(collector, example, listener);
+            }
+            context.shareWrites(false);
+            context.releaseFixtures(collector);
+            collector.haltOnFailure();
+        } finally {
+            context.close();
+        }
+    }
+}
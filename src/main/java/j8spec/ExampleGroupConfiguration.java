@@ -14,6 +14,7 @@ public final class ExampleGroupConfiguration {
         private BlockExecutionFlag executionFlag = BlockExecutionFlag.DEFAULT;
         private BlockExecutionOrder executionOrder = BlockExecutionOrder.DEFAULT;
         private Long seed;
+        private boolean concurrentExamples;
 
         Builder description(String description) {
             this.description = description;
@@ -44,12 +45,18 @@ public final class ExampleGroupConfiguration {
             return this;
         }
 
+        Builder concurrentExamples() {
+            this.concurrentExamples = true;
+            return this;
+        }
+
         ExampleGroupConfiguration build() {
             return new ExampleGroupConfiguration(
                 description,
                 executionFlag,
                 executionOrder,
-                seed
+                seed,
+                concurrentExamples
             );
         }
     }
@@ -58,17 +65,20 @@ public final class ExampleGroupConfiguration {
     private final BlockExecutionFlag executionFlag;
     private final BlockExecutionOrder executionOrder;
     private final Long seed;
+    private final boolean concurrentExamples;
 
     private ExampleGroupConfiguration(
         String description,
         BlockExecutionFlag executionFlag,
         BlockExecutionOrder executionOrder,
-        Long seed
+        Long seed,
+        boolean concurrentExamples
     ) {
         this.description = description;
         this.executionFlag = executionFlag;
         this.executionOrder = executionOrder;
         this.seed = seed;
+        this.concurrentExamples = concurrentExamples;
     }
 
     String description() {
@@ -86,4 +96,8 @@ public final class ExampleGroupConfiguration {
     Long seed() {
         return seed;
     }
+
+    boolean concurrentExamples() {
+        return concurrentExamples;
+    }
 }
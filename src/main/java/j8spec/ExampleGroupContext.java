@@ -1,10 +1,28 @@
 package j8spec;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 final class ExampleGroupContext {
 
-    private final Stack<ExampleGroupDefinition> stack = new Stack<>();
+    private final Deque<ExampleGroupDefinition> stack = new ArrayDeque<>();
+    private final GroupSelection selection;
+    private int varSlots;
+
+    ExampleGroupContext() {
+        this(null);
+    }
+
+    ExampleGroupContext(GroupSelection selection) {
+        this.selection = selection;
+    }
+
+    /*
+     * Null when the bodies of all example groups are executed.
+     */
+    GroupSelection selection() {
+        return selection;
+    }
 
     void switchTo(ExampleGroupDefinition current) {
         stack.push(current);
@@ -14,6 +32,18 @@ final class ExampleGroupContext {
         stack.pop();
     }
 
+    /*
+     * Variables created while the spec is read are numbered from 0, so that the values of an example fit in an
+     * array the size of the spec's variables.
+     */
+    int nextVarSlot() {
+        return varSlots++;
+    }
+
+    int varSlots() {
+        return varSlots;
+    }
+
     ExampleGroupDefinition current() {
         return stack.peek();
     }
@@ -1,8 +1,10 @@
 package j8spec;
 
+import j8spec.annotation.ConcurrentExamples;
 import j8spec.annotation.DefinedOrder;
 import j8spec.annotation.RandomOrder;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -13,9 +15,11 @@ final class ExampleGroupDefinition implements BlockDefinition {
 
     private final ExampleGroupConfiguration config;
     private final ExampleGroupContext context;
-    private final List<BlockDefinition> blockDefinitions = new LinkedList<>();
+    private final List<BlockDefinition> blockDefinitions = new ArrayList<>();
     private final List<BlockDefinition> hooks = new LinkedList<>();
     private final List<BlockDefinition> varInitializers = new LinkedList<>();
+    private String name = "";
+    private boolean variables;
 
     static ExampleGroupDefinition newExampleGroupDefinition(
         Class<?> specClass,
@@ -27,6 +31,10 @@ final class ExampleGroupDefinition implements BlockDefinition {
 
         configureExecutionOrder(specClass, configBuilder);
 
+        if (specClass.isAnnotationPresent(ConcurrentExamples.class)) {
+            configBuilder.concurrentExamples();
+        }
+
         ExampleGroupDefinition group = new ExampleGroupDefinition(configBuilder.build(), context);
         context.switchTo(group);
 
@@ -38,6 +46,7 @@ final class ExampleGroupDefinition implements BlockDefinition {
             throw new Exceptions.SpecInitializationFailed(specClass, e);
         }
 
+        group.variables = context.varSlots() > 0;
         return group;
     }
 
@@ -52,23 +61,42 @@ final class ExampleGroupDefinition implements BlockDefinition {
         }
     }
 
-    private ExampleGroupDefinition(ExampleGroupConfiguration config, ExampleGroupContext context) {
+    ExampleGroupDefinition(ExampleGroupConfiguration config, ExampleGroupContext context) {
         this.config = config;
         this.context = context;
     }
 
+    /*
+     * Whether variables were created while reading the spec this definition is the outermost group of.
+     */
+    boolean declaresVariables() {
+        return variables;
+    }
+
     void addGroup(ExampleGroupConfiguration config, SafeBlock block) {
-        ExampleGroupDefinition exampleGroupDefinition = new ExampleGroupDefinition(config, context);
+        ExampleGroupDefinition exampleGroupDefinition = addGroup(config);
 
-        blockDefinitions.add(exampleGroupDefinition);
+        GroupSelection selection = context.selection();
+        if (selection != null) {
+            exampleGroupDefinition.name = selection.name(name, config.description());
+            if (!selection.mayContainSelected(exampleGroupDefinition.name)) {
+                return;
+            }
+        }
 
         context.switchTo(exampleGroupDefinition);
         block.execute();
         context.restore();
     }
 
-    <T> void addVarInitializer(Var<T> var, UnsafeFunction<T> initFunction) {
-        varInitializers.add(new BlockDefinitions.VarInitializer<>(var, initFunction));
+    ExampleGroupDefinition addGroup(ExampleGroupConfiguration config) {
+        ExampleGroupDefinition exampleGroupDefinition = new ExampleGroupDefinition(config, context);
+        blockDefinitions.add(exampleGroupDefinition);
+        return exampleGroupDefinition;
+    }
+
+    <T> void addVarInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
+        varInitializers.add(new BlockDefinitions.VarInitializer<>(var, scope, initFunction));
     }
 
     void addBeforeAll(UnsafeBlock beforeAllBlock) {
@@ -91,6 +119,23 @@ final class ExampleGroupDefinition implements BlockDefinition {
         blockDefinitions.add(new BlockDefinitions.Example(exampleConfig, block));
     }
 
+    ExampleGroupConfiguration config() {
+        return config;
+    }
+
+    List<BlockDefinition> blockDefinitions() {
+        return blockDefinitions;
+    }
+
+    /*
+     * Visits only what is defined directly in this group and applies to all its examples, leaving inner examples
+     * and example groups out.
+     */
+    void acceptHooks(BlockDefinitionVisitor visitor) {
+        visitAll(visitor, varInitializers);
+        visitAll(visitor, hooks);
+    }
+
     @Override
     public void accept(BlockDefinitionVisitor visitor) {
         visitor.startGroup(config);
@@ -0,0 +1,268 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static j8spec.BlockExecutionFlag.DEFAULT;
+import static java.util.Arrays.asList;
+
+/*
+ * Builds the examples of a spec lazily, in execution order, one example group at a time. Only the example groups
+ * enclosing the current example are kept, so memory is bounded by the depth of the spec rather than by its number
+ * of examples.
+ */
+final class ExampleIterator extends BlockDefinitionVisitor implements Iterator<Example> {
+
+    private static final ExampleGroup[] NO_GROUPS = {};
+
+    private static final class Frame {
+        final GroupPath path;
+        final ExampleGroup group;
+        final BlockExecutionFlag executionFlag;
+        final List<BlockDefinition> children;
+        final boolean[] active;
+        int next;
+        int remainingActive;
+        int varInitializers;
+        boolean opened;
+
+        Frame(
+            GroupPath path,
+            ExampleGroup group,
+            BlockExecutionFlag executionFlag,
+            List<BlockDefinition> children,
+            boolean[] active,
+            int remainingActive
+        ) {
+            this.path = path;
+            this.group = group;
+            this.executionFlag = executionFlag;
+            this.children = children;
+            this.active = active;
+            this.remainingActive = remainingActive;
+        }
+    }
+
+    private final BlockExecutionStrategy executionStrategy;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final SiblingOrder siblingOrder = new SiblingOrder();
+    private final Example.Sequence sequence = new Example.Sequence();
+    private int position;
+    private Example next;
+
+    ExampleIterator(ExampleGroupDefinition spec, BlockExecutionStrategy executionStrategy) {
+        this.executionStrategy = executionStrategy;
+        enter(spec);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = advance();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Example next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Example example = next;
+        next = null;
+        return example;
+    }
+
+    private Example advance() {
+        while (!frames.isEmpty()) {
+            Frame frame = frames.peekLast();
+            if (frame.next == frame.children.size()) {
+                frames.removeLast();
+                siblingOrder.popLevel();
+                continue;
+            }
+
+            int index = frame.next++;
+            if (frame.active[index]) {
+                frame.remainingActive--;
+            }
+
+            BlockDefinition child = frame.children.get(index);
+            if (child instanceof ExampleGroupDefinition) {
+                enter((ExampleGroupDefinition) child);
+            } else {
+                return example(frame, (BlockDefinitions.Example) child, frame.active[index]);
+            }
+        }
+        return null;
+    }
+
+    private void enter(ExampleGroupDefinition definition) {
+        ExampleGroupConfiguration config = definition.config();
+        Frame parent = frames.peekLast();
+
+        BlockExecutionFlag executionFlag = parent == null || parent.executionFlag.equals(DEFAULT)
+            ? config.executionFlag()
+            : parent.executionFlag;
+
+        GroupPath path = new GroupPath(parent == null ? null : parent.path, config.description());
+        ExampleGroup group = new ExampleGroup(
+            path,
+            parent == null ? null : parent.group,
+            config.concurrentExamples() || parent != null && parent.group.allowsConcurrentExamples()
+        );
+        if (parent == null && definition.declaresVariables()) {
+            group.declareVariables();
+        }
+
+        siblingOrder.pushLevel(config);
+        List<BlockDefinition> children = new ArrayList<>(definition.blockDefinitions());
+        siblingOrder.order(children);
+
+        boolean[] active = new boolean[children.size()];
+        int remainingActive = 0;
+        for (int i = 0; i < active.length; i++) {
+            active[i] = isActive(children.get(i), executionFlag);
+            if (active[i]) {
+                remainingActive++;
+            }
+        }
+
+        frames.addLast(new Frame(
+            path,
+            group,
+            executionFlag,
+            children,
+            active,
+            remainingActive
+        ));
+
+        definition.acceptHooks(this);
+    }
+
+    /*
+     * Whether the block is an example that is not ignored or an example group with at least one of those.
+     */
+    private boolean isActive(BlockDefinition definition, BlockExecutionFlag executionFlag) {
+        if (definition instanceof BlockDefinitions.Example) {
+            ExampleConfiguration config = ((BlockDefinitions.Example) definition).config();
+            return !executionStrategy.shouldBeIgnored(config.executionFlag(), executionFlag);
+        }
+
+        ExampleGroupDefinition group = (ExampleGroupDefinition) definition;
+        BlockExecutionFlag groupFlag = executionFlag.equals(DEFAULT) ? group.config().executionFlag() : executionFlag;
+        for (BlockDefinition child : group.blockDefinitions()) {
+            if (isActive(child, groupFlag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Example example(Frame frame, BlockDefinitions.Example definition, boolean active) {
+        ExampleConfiguration config = definition.config();
+
+        Example.Builder builder = new Example.Builder()
+            .groupPath(frame.path)
+            .group(frame.group)
+            .description(config.description())
+            .rank(rank());
+
+        if (active) {
+            builder
+                .block(definition.block())
+                .expectedException(config.expectedException())
+                .timeout(config.timeout(), config.timeoutUnit());
+        } else {
+            builder.ignored();
+        }
+
+        Example example = builder.build();
+        if (active) {
+            example.link(sequence, position++, openedGroups(), closedGroups());
+        } else {
+            example.link(sequence, position++, NO_GROUPS, NO_GROUPS);
+        }
+        return example;
+    }
+
+    private Rank rank() {
+        int[] values = new int[frames.size()];
+        int level = 0;
+        for (Frame frame : frames) {
+            values[level++] = frame.next - 1;
+        }
+        return new Rank(values);
+    }
+
+    /*
+     * The first example that is not ignored in a group runs its "before all" hooks...
+     */
+    private ExampleGroup[] openedGroups() {
+        List<ExampleGroup> opened = new ArrayList<>();
+        for (Frame frame : frames) {
+            if (!frame.opened) {
+                frame.opened = true;
+                if (frame.group.hasBeforeAllHooks()) {
+                    opened.add(frame.group);
+                }
+            }
+        }
+        return opened.isEmpty() ? NO_GROUPS : opened.toArray(new ExampleGroup[opened.size()]);
+    }
+
+    /*
+     * ... and the last one runs its "after all" hooks.
+     */
+    private ExampleGroup[] closedGroups() {
+        List<ExampleGroup> closed = new ArrayList<>();
+        for (Iterator<Frame> i = frames.descendingIterator(); i.hasNext(); ) {
+            Frame frame = i.next();
+            if (frame.remainingActive > 0) {
+                break;
+            }
+            if (frame.group.hasAfterAllHooks()) {
+                closed.add(0, frame.group);
+            }
+        }
+        return closed.isEmpty() ? NO_GROUPS : closed.toArray(new ExampleGroup[closed.size()]);
+    }
+
+    @Override
+    <T> BlockDefinitionVisitor varInitializer(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
+        Frame frame = frames.peekLast();
+        Object runKey = scope == VarScope.RUN ? asList(frame.path.descriptions(), frame.varInitializers) : null;
+        frame.varInitializers++;
+        String specName = frame.path.descriptions().get(0);
+        frame.group.addVarInitializer(new VarInitializer<>(var, scope, initFunction, specName, runKey));
+        return this;
+    }
+
+    @Override
+    BlockDefinitionVisitor beforeAll(UnsafeBlock block) {
+        frames.peekLast().group.addBeforeAllHook(block);
+        return this;
+    }
+
+    @Override
+    BlockDefinitionVisitor beforeEach(UnsafeBlock block) {
+        frames.peekLast().group.addBeforeEachHook(block);
+        return this;
+    }
+
+    @Override
+    BlockDefinitionVisitor afterEach(UnsafeBlock block) {
+        frames.peekLast().group.addAfterEachHook(block);
+        return this;
+    }
+
+    @Override
+    BlockDefinitionVisitor afterAll(UnsafeBlock block) {
+        frames.peekLast().group.addAfterAllHook(block);
+        return this;
+    }
+}
@@ -1,5 +1,10 @@
 package j8spec;
 
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
 /**
  * J8Spec exceptions.
  */
@@ -39,6 +44,17 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Thrown when reading a variable runs its initialization function and the function throws a checked exception,
+     * which is the cause.
+     * @since 3.1.0
+     */
+    public static class VariableInitializationFailed extends Base {
+        VariableInitializationFailed(Throwable cause) {
+            super("Variable initialization failed.", cause);
+        }
+    }
+
     /**
      * Thrown when a method that ignores or focuses an example or example group
      * (like {@link j8spec.J8Spec#xit(String, UnsafeBlock) xit} or {@link j8spec.J8Spec#fit(String, UnsafeBlock) fit})
@@ -93,6 +109,47 @@ public final class Exceptions {
         }
     }
 
+    /**
+     * Thrown when one or more specs could not be read by {@link j8spec.J8Spec#readAll(java.util.Collection)}. Holds the
+     * examples of the specs that were read successfully, and each failure is also added as a suppressed exception.
+     * @since 3.1.0
+     */
+    public static class SpecsReadFailed extends Base {
+        private final Map<Class<?>, List<Example>> examples;
+        private final Map<Class<?>, Throwable> failures;
+
+        SpecsReadFailed(Map<Class<?>, List<Example>> examples, Map<Class<?>, Throwable> failures) {
+            super("Failed to read " + failures.size() + " of " + (examples.size() + failures.size()) + " specs.");
+            this.examples = unmodifiableMap(examples);
+            this.failures = unmodifiableMap(failures);
+            failures.values().forEach(this::addSuppressed);
+        }
+
+        /**
+         * @return examples of the specs that were read successfully, keyed by spec class
+         * @since 3.1.0
+         */
+        public Map<Class<?>, List<Example>> examples() { return examples; }
+
+        /**
+         * @return failure of each spec that could not be read, keyed by spec class
+         * @since 3.1.0
+         */
+        public Map<Class<?>, Throwable> failures() { return failures; }
+    }
+
+    /**
+     * Thrown when one or more shared fixtures could not be torn down by {@link SharedFixtures#tearDown()}. Each
+     * failure is added as a suppressed exception.
+     * @since 3.1.0
+     */
+    public static class SharedFixtureTearDownFailed extends Base {
+        SharedFixtureTearDownFailed(List<Throwable> failures) {
+            super("Failed to tear down " + failures.size() + " shared fixtures.");
+            failures.forEach(this::addSuppressed);
+        }
+    }
+
     /**
      * Thrown when an example has multiple failures.
      * @since 3.1.0
@@ -104,37 +161,53 @@ public final class Exceptions {
     }
 
     static class Collector {
-        @SuppressWarnings("ThrowableInstanceNeverThrown")
-        private final Throwable throwable = new MultipleFailures();
+        private Throwable firstFailure;
+        private MultipleFailures multipleFailures;
+        private int failures;
 
-        void execute(UnsafeBlock unsafeBlock) {
+        Throwable execute(UnsafeBlock unsafeBlock) {
             try {
                 unsafeBlock.tryToExecute();
+                return null;
             } catch (Throwable cause) {
-                throwable.addSuppressed(cause);
+                add(cause);
+                return cause;
             }
         }
 
         void haltOnFailure() throws Throwable {
-            if (isEmpty()) {
+            if (failures == 0) {
                 return;
             }
 
-            if (throwable.getSuppressed().length == 1) {
-                throw throwable.getSuppressed()[0];
+            if (failures == 1) {
+                throw firstFailure;
             }
 
-            throw throwable;
+            throw multipleFailures;
         }
 
-        void executeOrSkip(UnsafeBlock unsafeBlocks) {
-            if (isEmpty()) {
-                execute(unsafeBlocks);
+        void executeAllOrSkip(UnsafeBlock[] unsafeBlocks) {
+            for (int i = 0; i < unsafeBlocks.length && isEmpty(); i++) {
+                execute(unsafeBlocks[i]);
             }
         }
 
         boolean isEmpty() {
-            return throwable.getSuppressed().length == 0;
+            return failures == 0;
+        }
+
+        private void add(Throwable cause) {
+            if (failures == 0) {
+                firstFailure = cause;
+            } else {
+                if (multipleFailures == null) {
+                    multipleFailures = new MultipleFailures();
+                    multipleFailures.addSuppressed(firstFailure);
+                }
+                multipleFailures.addSuppressed(cause);
+            }
+            failures++;
         }
     }
 }
@@ -0,0 +1,75 @@
+package j8spec;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/*
+ * Initialization function of a pooled variable: leases an instance to the example that reads the variable, creating
+ * it if fewer than "size" instances exist, or waiting for another example to give one back otherwise. The instance is
+ * reset and given back once the example has run its "after each" hooks. Instances whose creation or reset fails are
+ * discarded, so that a new one can be created in their place.
+ */
+final class FixturePool<T> implements UnsafeFunction<T> {
+
+    private final int size;
+    private final UnsafeFunction<T> factory;
+    private final UnsafeConsumer<T> reset;
+    private final Deque<T> idle = new ArrayDeque<>();
+    private int created;
+
+    FixturePool(int size, UnsafeFunction<T> factory, UnsafeConsumer<T> reset) {
+        this.size = size;
+        this.factory = factory;
+        this.reset = reset;
+    }
+
+    @Override
+    public T tryToGet() throws Throwable {
+        VarContext context = VarContext.current();
+        if (context == null) {
+            throw new IllegalStateException("Pooled variables can only be read while an example is executed.");
+        }
+
+        T instance = lease();
+        context.onRelease(() -> giveBack(instance));
+        return instance;
+    }
+
+    private T lease() throws Throwable {
+        synchronized (this) {
+            while (idle.isEmpty() && created == size) {
+                wait();
+            }
+            if (!idle.isEmpty()) {
+                return idle.pop();
+            }
+            created++;
+        }
+
+        try {
+            return factory.tryToGet();
+        } catch (Throwable e) {
+            discard();
+            throw e;
+        }
+    }
+
+    private void giveBack(T instance) throws Throwable {
+        try {
+            reset.tryToAccept(instance);
+        } catch (Throwable e) {
+            discard();
+            throw e;
+        }
+
+        synchronized (this) {
+            idle.push(instance);
+            notify();
+        }
+    }
+
+    private synchronized void discard() {
+        created--;
+        notify();
+    }
+}
@@ -0,0 +1,97 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.RandomOrder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Emits JDK Flight Recorder events while specs are read and executed, so a recording of a whole test run shows
+ * where each example started and finished next to garbage collections, lock contention and allocations.
+ *
+ * <p>
+ *     Events are emitted only when the JVM supports the <code>jdk.jfr</code> API (JDK 8u262 and later) and the
+ *     flight recorder has been started, for instance with <code>-XX:StartFlightRecording</code>. Otherwise nothing
+ *     is recorded and the classes that depend on the API are never loaded, so the library still runs on JVMs
+ *     without it.
+ * </p>
+ *
+ * <p>
+ *     Events are in the "J8Spec" category: <code>j8spec.SpecRead</code> for each spec class read,
+ *     <code>j8spec.Group</code> for each example group, <code>j8spec.Hook</code> for each hook executed and
+ *     <code>j8spec.Example</code> for each example. They carry the description path, the outcome and the random
+ *     order seed of the spec; the outcome of an example group is failed when one of its examples or hooks, or
+ *     those of its inner groups, failed.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class FlightRecording {
+
+    /*
+     * Implemented by FlightRecorderSupport, which is compiled on its own against the jdk.jfr API and only loaded when
+     * the running JVM provides it, so that this library links on JVMs without it.
+     */
+    interface Recorder {
+        boolean isRecording();
+
+        PhaseListener listener(boolean randomOrder, long seed);
+
+        List<Example> recordRead(Class<?> specClass, Function<Class<?>, List<Example>> read);
+    }
+
+    private static final Recorder RECORDER = loadRecorder();
+
+    private static Recorder loadRecorder() {
+        ClassLoader classLoader = FlightRecording.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, classLoader);
+            return (Recorder) Class.forName("j8spec.FlightRecorderSupport", true, classLoader).newInstance();
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return <code>true</code> if events are being recorded, <code>false</code> otherwise
+     * @since 3.1.0
+     */
+    public static boolean isRecording() {
+        return RECORDER != null && RECORDER.isRecording();
+    }
+
+    /**
+     * @param specClass spec class whose examples are going to be executed
+     * @return listener that emits an event for each example, hook and example group, <code>null</code> if events
+     * are not being recorded
+     * @since 3.1.0
+     */
+    public static PhaseListener listener(Class<?> specClass) {
+        if (!isRecording()) {
+            return null;
+        }
+        Long seed = seed(specClass);
+        return RECORDER.listener(seed != null, seed == null ? 0 : seed);
+    }
+
+    static List<Example> recordRead(Class<?> specClass, Function<Class<?>, List<Example>> read) {
+        return RECORDER.recordRead(specClass, read);
+    }
+
+    /*
+     * Seed of the spec itself; example groups can still override it. null in defined order, or if no seed has been
+     * generated yet.
+     */
+    static Long seed(Class<?> specClass) {
+        if (specClass.isAnnotationPresent(DefinedOrder.class)) {
+            return null;
+        }
+        if (specClass.isAnnotationPresent(RandomOrder.class)) {
+            return specClass.getAnnotation(RandomOrder.class).seed();
+        }
+        return RandomOrderSeedProvider.current();
+    }
+
+    private FlightRecording() {}
+}
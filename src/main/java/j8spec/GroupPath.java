@@ -0,0 +1,84 @@
+package j8spec;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Descriptions of an example group and of all its enclosing groups, shared by every example in the group.
+ *
+ * @since 3.1.0
+ */
+public final class GroupPath {
+
+    private static final class JoinedName {
+        final String separator;
+        final String name;
+
+        JoinedName(String separator, String name) {
+            this.separator = separator;
+            this.name = name;
+        }
+    }
+
+    private final GroupPath parent;
+    private final String description;
+    private final List<String> descriptions;
+    private volatile JoinedName joinedName;
+
+    GroupPath(GroupPath parent, String description) {
+        this.parent = parent;
+        this.description = description;
+
+        String[] descriptions = parent == null
+            ? new String[1]
+            : Arrays.copyOf(parent.descriptions.toArray(new String[0]), parent.descriptions.size() + 1);
+        descriptions[descriptions.length - 1] = description;
+        this.descriptions = unmodifiableList(asList(descriptions));
+    }
+
+    /**
+     * @return path of the enclosing example group, <code>null</code> if this is the spec itself
+     * @since 3.1.0
+     */
+    public GroupPath parent() { return parent; }
+
+    /**
+     * @return textual description of this example group
+     * @since 3.1.0
+     */
+    public String description() { return description; }
+
+    /**
+     * @return textual descriptions from the spec down to this example group
+     * @since 3.1.0
+     */
+    public List<String> descriptions() { return descriptions; }
+
+    /**
+     * @param separator text placed between descriptions
+     * @return descriptions of all groups but the spec itself joined by <code>separator</code>, empty if this is
+     * the spec
+     * @since 3.1.0
+     */
+    public String joinedName(String separator) {
+        JoinedName cached = joinedName;
+        if (cached == null || !cached.separator.equals(separator)) {
+            cached = new JoinedName(separator, join(separator));
+            joinedName = cached;
+        }
+        return cached.name;
+    }
+
+    private String join(String separator) {
+        if (parent == null) {
+            return "";
+        }
+        if (parent.parent == null) {
+            return description;
+        }
+        return parent.joinedName(separator) + separator + description;
+    }
+}
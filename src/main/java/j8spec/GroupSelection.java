@@ -0,0 +1,57 @@
+package j8spec;
+
+/*
+ * Example groups that may hold examples selected by the j8spec.filter system property, decided from the joined name
+ * of the group alone, before its body is executed. Focus is only looked for in those groups, so that reading the
+ * other groups or not makes no difference.
+ */
+final class GroupSelection {
+
+    private final String filter;
+    private final String separator;
+    private final boolean lazy;
+
+    /*
+     * Returns null unless j8spec.filter is set.
+     */
+    static GroupSelection fromSystemProperties() {
+        String filter = System.getProperty("j8spec.filter", "");
+        if (filter.isEmpty()) {
+            return null;
+        }
+
+        return new GroupSelection(
+            filter,
+            System.getProperty("j8spec.junit.description.separator", "/"),
+            Boolean.valueOf(System.getProperty("j8spec.read.lazy", "false"))
+        );
+    }
+
+    GroupSelection(String filter, String separator, boolean lazy) {
+        this.filter = filter;
+        this.separator = separator;
+        this.lazy = lazy;
+    }
+
+    /*
+     * Whether the bodies of the groups that cannot hold selected examples are skipped (j8spec.read.lazy).
+     */
+    boolean lazy() {
+        return lazy;
+    }
+
+    String name(String parentName, String description) {
+        return parentName.isEmpty() ? description : parentName + separator + description;
+    }
+
+    /*
+     * The filter names the group itself, one of its inner groups or examples, or one of its enclosing groups.
+     */
+    boolean mayContainSelected(String name) {
+        return name.isEmpty()
+            || filter.equals(name)
+            || filter.startsWith(name + separator)
+            || filter.startsWith(name + "/")
+            || name.startsWith(filter + separator);
+    }
+}
@@ -1,19 +1,35 @@
 package j8spec;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static j8spec.BlockExecutionFlag.DEFAULT;
 import static j8spec.BlockExecutionFlag.FOCUSED;
 import static j8spec.BlockExecutionFlag.IGNORED;
 import static j8spec.ExampleGroupDefinition.newExampleGroupDefinition;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.function.Function.identity;
 
 /**
  * J8Spec main facade.
  *
  * <p>
- *     <b>Note:</b> this class is thread-safe.
+ *     <b>Note:</b> this class is thread-safe and does not lock: each thread reading a spec keeps its own
+ *     definition state, so several specs can be read at the same time.
  * </p>
  *
  * @since 1.0.0
@@ -22,6 +38,16 @@ public final class J8Spec {
 
     private static final ThreadLocal<ExampleGroupContext> contexts = new ThreadLocal<>();
 
+    /*
+     * Definitions are attached to the spec class itself, so they go away together with its class loader.
+     */
+    private static final ClassValue<ExampleGroupDefinition> definitions = new ClassValue<ExampleGroupDefinition>() {
+        @Override
+        protected ExampleGroupDefinition computeValue(Class<?> specClass) {
+            return define(specClass, null);
+        }
+    };
+
     /**
      * Defines a new example group.
      *
@@ -33,7 +59,7 @@ public final class J8Spec {
      * context has been defined already
      * @since 1.0.0
      */
-    public static synchronized void describe(String description, SafeBlock block) {
+    public static void describe(String description, SafeBlock block) {
         isValidContext("describe");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
@@ -53,7 +79,7 @@ public final class J8Spec {
      * has been defined already
      * @since 2.0.0
      */
-    public static synchronized void context(String description, SafeBlock block) {
+    public static void context(String description, SafeBlock block) {
         isValidContext("context");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
             .description(description)
@@ -75,7 +101,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xdescribe(String description, SafeBlock block) {
+    public static void xdescribe(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("xdescribe");
         isValidContext("xdescribe");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
@@ -98,7 +124,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xcontext(String description, SafeBlock block) {
+    public static void xcontext(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("xcontext");
         isValidContext("xcontext");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
@@ -121,7 +147,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fdescribe(String description, SafeBlock block) {
+    public static void fdescribe(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("fdescribe");
         isValidContext("fdescribe");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
@@ -143,7 +169,7 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fcontext(String description, SafeBlock block) {
+    public static void fcontext(String description, SafeBlock block) {
         notAllowedWhenCIModeEnabled("fcontext");
         isValidContext("fcontext");
         ExampleGroupConfiguration config = new ExampleGroupConfiguration.Builder()
@@ -160,7 +186,7 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 2.0.0
      */
-    public static synchronized void beforeAll(UnsafeBlock block) {
+    public static void beforeAll(UnsafeBlock block) {
         isValidContext("beforeAll");
         contexts.get().current().addBeforeAll(block);
     }
@@ -172,7 +198,7 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 1.0.0
      */
-    public static synchronized void beforeEach(UnsafeBlock block) {
+    public static void beforeEach(UnsafeBlock block) {
         isValidContext("beforeEach");
         contexts.get().current().addBeforeEach(block);
     }
@@ -184,7 +210,7 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterEach(UnsafeBlock block) {
+    public static void afterEach(UnsafeBlock block) {
         isValidContext("afterEach");
         contexts.get().current().addAfterEach(block);
     }
@@ -196,7 +222,7 @@ public final class J8Spec {
      * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
      * @since 3.0.0
      */
-    public static synchronized void afterAll(UnsafeBlock block) {
+    public static void afterAll(UnsafeBlock block) {
         isValidContext("afterAll");
         contexts.get().current().addAfterAll(block);
     }
@@ -211,7 +237,7 @@ public final class J8Spec {
      * defined already
      * @since 1.0.0
      */
-    public static synchronized void it(String description, UnsafeBlock block) {
+    public static void it(String description, UnsafeBlock block) {
         it(description, identity(), block);
     }
 
@@ -226,7 +252,7 @@ public final class J8Spec {
      * defined already
      * @since 2.0.0
      */
-    public static synchronized void it(
+    public static void it(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
@@ -250,7 +276,7 @@ public final class J8Spec {
      * @throws Exceptions.OperationNotAllowedInCIMode if the system property <code>j8spec.ci.mode</code> is <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(String description, UnsafeBlock block) {
+    public static void xit(String description, UnsafeBlock block) {
         xit(description, identity(), block);
     }
 
@@ -267,7 +293,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void xit(
+    public static void xit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
@@ -293,7 +319,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(String description, UnsafeBlock block) {
+    public static void fit(String description, UnsafeBlock block) {
         fit(description, identity(), block);
     }
 
@@ -310,7 +336,7 @@ public final class J8Spec {
      * <code>true</code>
      * @since 2.0.0
      */
-    public static synchronized void fit(
+    public static void fit(
         String description,
         Function<ExampleConfiguration.Builder, ExampleConfiguration.Builder> collector,
         UnsafeBlock block
@@ -325,7 +351,8 @@ public final class J8Spec {
     }
 
     /**
-     * Initializes the provided variable before executing hooks and examples.
+     * Initializes the provided variable the first time it is read by a hook or an example, keeping the value for
+     * all the examples in the current context ({@link VarScope#GROUP}).
      *
      * @param var variable to be initialized
      * @param initFunction initialization function that will provide the value for the variable
@@ -337,7 +364,109 @@ public final class J8Spec {
      */
     public static <T> void let(Var<T> var, UnsafeFunction<T> initFunction) {
         isValidContext("let");
-        contexts.get().current().addVarInitializer(var, initFunction);
+        contexts.get().current().addVarInitializer(var, VarScope.GROUP, initFunction);
+    }
+
+    /**
+     * Initializes the provided variable the first time it is read by a hook or an example, keeping the value
+     * according to the given scope.
+     *
+     * @param var variable to be initialized
+     * @param scope how long the value is kept
+     * @param initFunction initialization function that will provide the value for the variable
+     * @param <T> the type of the value stored by <code>var</code> and returned by <code>initFunction</code>
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.VariableInitializerAlreadyDefined if another initializer was defined for the provided
+     * variable in the same context
+     * @since 3.1.0
+     */
+    public static <T> void let(Var<T> var, VarScope scope, UnsafeFunction<T> initFunction) {
+        isValidContext("let");
+        contexts.get().current().addVarInitializer(var, scope, initFunction);
+    }
+
+    /**
+     * Lends the provided variable an instance from a pool of at most <code>size</code> instances, the first time it
+     * is read by a hook or an example. Instances are created by <code>factory</code> as needed, reset by
+     * <code>reset</code> once the example has run its "after each" hooks, and then lent to the next example. When
+     * all instances are lent, examples wait for one to be given back.
+     *
+     * <p>
+     *     Instances that fail to be created or reset are discarded. Pooled instances are kept for as long as the
+     *     spec definition is.
+     * </p>
+     *
+     * @param var variable to be initialized
+     * @param size maximum number of instances
+     * @param factory function that creates a new instance
+     * @param reset block that prepares an instance to be lent again
+     * @param <T> the type of the value stored by <code>var</code> and returned by <code>factory</code>
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.VariableInitializerAlreadyDefined if another initializer was defined for the provided
+     * variable in the same context
+     * @throws IllegalArgumentException if <code>size</code> is not positive
+     * @since 3.1.0
+     */
+    public static <T> void pool(Var<T> var, int size, UnsafeFunction<T> factory, UnsafeConsumer<T> reset) {
+        isValidContext("pool");
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be positive: " + size);
+        }
+        contexts.get().current().addVarInitializer(var, VarScope.EXAMPLE, new FixturePool<>(size, factory, reset));
+    }
+
+    /**
+     * Builds a value once for all the examples in the current context and hands each example its own copy of it,
+     * the first time the provided variable is read by a hook or an example. Examples can then modify their copy
+     * without rebuilding the value in a "before each" hook.
+     *
+     * <p>
+     *     The value is built the first time any example reads the variable and is kept for as long as the spec
+     *     definition is. Examples can be copied concurrently, so <code>copier</code> should only read the value.
+     * </p>
+     *
+     * @param var variable to be initialized
+     * @param factory function that builds the value
+     * @param copier function that copies the value for an example
+     * @param <T> the type of the value stored by <code>var</code> and returned by <code>factory</code>
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.VariableInitializerAlreadyDefined if another initializer was defined for the provided
+     * variable in the same context
+     * @since 3.1.0
+     */
+    public static <T> void snapshot(Var<T> var, UnsafeFunction<T> factory, UnaryOperator<T> copier) {
+        isValidContext("snapshot");
+        contexts.get().current().addVarInitializer(var, VarScope.EXAMPLE, new SnapshotFixture<>(factory, copier));
+    }
+
+    /**
+     * Binds the provided variable to the fixture registered under the given name in {@link SharedFixtures}, shared
+     * by all the specs executed in the JVM. The fixture is started by <code>start</code> the first time an example
+     * reads a variable bound to it, and stopped once by <code>stop</code> at the end (see
+     * {@link SharedFixtures#tearDown()}).
+     *
+     * <p>
+     *     Every declaration of a fixture with the same name should start the same kind of value: whichever is read
+     *     first starts it.
+     * </p>
+     *
+     * @param var variable to be initialized
+     * @param name name of the fixture
+     * @param start function that starts the fixture
+     * @param stop block that stops the fixture
+     * @param <T> the type of the value stored by <code>var</code> and returned by <code>start</code>
+     * @throws Exceptions.IllegalContext if called outside the context of the {@link #read(Class)} method
+     * @throws Exceptions.VariableInitializerAlreadyDefined if another initializer was defined for the provided
+     * variable in the same context
+     * @since 3.1.0
+     */
+    public static <T> void shared(Var<T> var, String name, UnsafeFunction<T> start, UnsafeConsumer<T> stop) {
+        isValidContext("shared");
+        contexts.get().current().addVarInitializer(
+            var,
+            VarScope.EXAMPLE,
+            new SharedFixtures.Lender<>(name, start, stop)
+        );
     }
 
     private static void notAllowedWhenCIModeEnabled(final String methodName) {
@@ -361,19 +490,23 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> Var<T> var() {
-        return new Var<>();
+        ExampleGroupContext context = contexts.get();
+        return new Var<>(context == null ? Var.NO_SLOT : context.nextVarSlot());
     }
 
     /**
-     * Access the value stored in the given variable object.
+     * Access the value stored in the given variable object, initializing it first if it was set up with
+     * {@link #let(Var, VarScope, UnsafeFunction) let} and not read yet.
      *
      * @param var variable object
      * @param <T> type of value the variable object can store
      * @return value stored in the variable object
+     * @throws Exceptions.VariableInitializationFailed if the initialization function throws a checked exception;
+     * unchecked exceptions are thrown as they are
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -386,33 +519,144 @@ public final class J8Spec {
      * @since 3.1.0
      */
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
+    }
+
+    /**
+     * Discards the values of the variables of the given spec class initialized in {@link VarScope#RUN} scope, so
+     * that the next run of the spec initializes them again. Runs of the same spec class that overlap share those
+     * values.
+     *
+     * @param specClass spec class that has finished running
+     * @since 3.1.0
+     */
+    public static void finishRun(Class<?> specClass) {
+        VarInitializer.discardRunMemos(specClass.getName());
     }
 
     /**
      * Uses the given spec class to build and populate a list of {@link Example} objects ready to be executed.
      *
+     * <p>
+     *     When the system property <code>j8spec.read.cache</code> is <code>true</code>, the spec class is
+     *     instantiated only the first time it is read; later reads build new {@link Example} objects from the
+     *     same definition.
+     * </p>
+     *
+     * <p>
+     *     When the system property <code>j8spec.read.lazy</code> is <code>true</code> and
+     *     <code>j8spec.filter</code> is set, the bodies of example groups that cannot hold a selected example are
+     *     not executed, and such reads are not cached.
+     * </p>
+     *
+     * <p>
+     *     Whenever <code>j8spec.filter</code> is set, focused examples and example groups are only taken into
+     *     account in the example groups that can hold a selected example and in the groups enclosing them, so
+     *     focus elsewhere in the spec does not ignore the selected examples, whether the spec is read lazily or not.
+     * </p>
+     *
      * @param specClass class with a public default constructor that contains the spec definition
      * @return {@link Example} objects that represent the spec definition and can be executed
      * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
      * @since 2.0.0
      */
-    public static synchronized List<Example> read(Class<?> specClass) {
-        contexts.set(new ExampleGroupContext());
-        try {
-            ExampleGroupDefinition exampleGroupDefinition = newExampleGroupDefinition(specClass, contexts.get());
+    public static List<Example> read(Class<?> specClass) {
+        return FlightRecording.isRecording()
+            ? FlightRecording.recordRead(specClass, J8Spec::readExamples)
+            : readExamples(specClass);
+    }
 
-            exampleGroupDefinition.accept(new DuplicatedBlockValidator());
+    private static List<Example> readExamples(Class<?> specClass) {
+        List<Example> examples = new ArrayList<>();
+        plan(specClass).forEachRemaining(examples::add);
+        return examples;
+    }
+
+    /**
+     * Same as {@link #read(Class)}, but the {@link Example} objects are built lazily, one example group at a time,
+     * as the stream is consumed. The spec class itself is read right away.
+     *
+     * @param specClass class with a public default constructor that contains the spec definition
+     * @return sequential stream of {@link Example} objects in execution order
+     * @throws Exceptions.SpecInitializationFailed if it is not possible to create an instance of <code>specClass</code>
+     * @since 3.1.0
+     */
+    public static Stream<Example> stream(Class<?> specClass) {
+        return StreamSupport.stream(spliteratorUnknownSize(plan(specClass), ORDERED | NONNULL), false);
+    }
+
+    private static Iterator<Example> plan(Class<?> specClass) {
+        GroupSelection selection = GroupSelection.fromSystemProperties();
+        boolean lazy = selection != null && selection.lazy();
+        ExampleGroupDefinition exampleGroupDefinition =
+            !lazy && Boolean.valueOf(System.getProperty("j8spec.read.cache", "false"))
+                ? definitions.get(specClass)
+                : define(specClass, lazy ? selection : null);
+
+        BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector(selection);
+        exampleGroupDefinition.accept(strategySelector);
+
+        return new ExampleIterator(exampleGroupDefinition, strategySelector.strategy());
+    }
+
+    /**
+     * Reads all the given spec classes in parallel, using the common fork-join pool.
+     *
+     * @param specClasses classes with a public default constructor that contain the spec definitions
+     * @return {@link Example} objects of each spec, keyed by spec class in iteration order
+     * @throws Exceptions.SpecsReadFailed if one or more spec classes cannot be read; the others are still read
+     * @see #read(Class)
+     * @since 3.1.0
+     */
+    public static Map<Class<?>, List<Example>> readAll(Collection<Class<?>> specClasses) {
+        Map<Class<?>, List<Example>> read = new ConcurrentHashMap<>();
+        Map<Class<?>, Throwable> failed = new ConcurrentHashMap<>();
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(specClasses.size());
+        for (Class<?> specClass : new LinkedHashSet<>(specClasses)) {
+            tasks.add(ForkJoinTask.adapt(() -> {
+                try {
+                    read.put(specClass, read(specClass));
+                } catch (Throwable e) {
+                    failed.put(specClass, e);
+                }
+            }));
+        }
+        ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        Map<Class<?>, List<Example>> examples = new LinkedHashMap<>();
+        Map<Class<?>, Throwable> failures = new LinkedHashMap<>();
+        for (Class<?> specClass : specClasses) {
+            if (read.containsKey(specClass)) {
+                examples.put(specClass, read.get(specClass));
+            } else if (failed.containsKey(specClass)) {
+                failures.put(specClass, failed.get(specClass));
+            }
+        }
 
-            BlockExecutionStrategySelector strategySelector = new BlockExecutionStrategySelector();
-            exampleGroupDefinition.accept(strategySelector);
+        if (!failures.isEmpty()) {
+            throw new Exceptions.SpecsReadFailed(examples, failures);
+        }
 
-            ExampleBuilder exampleBuilder = new ExampleBuilder(strategySelector.strategy());
-            exampleGroupDefinition.accept(exampleBuilder);
+        return examples;
+    }
+
+    /*
+     * A fork-join worker reading a spec for readAll can steal another read while the spec class waits on
+     * fork-join work of its own, so the context of the read in progress is put back rather than cleared.
+     */
+    private static ExampleGroupDefinition define(Class<?> specClass, GroupSelection selection) {
+        ExampleGroupContext previous = contexts.get();
+        ExampleGroupContext context = new ExampleGroupContext(selection);
+        contexts.set(context);
+        try {
+            ExampleGroupDefinition exampleGroupDefinition = newExampleGroupDefinition(specClass, context);
+
+            exampleGroupDefinition.accept(new DuplicatedBlockValidator());
 
-            return exampleBuilder.build();
+            return exampleGroupDefinition;
         } finally {
-            contexts.set(null);
+            contexts.set(previous);
         }
     }
 
@@ -0,0 +1,116 @@
+package j8spec;
+
+/**
+ * Receives how long each phase of an example took to execute, as measured with {@link System#nanoTime()}.
+ *
+ * <p>
+ *     Phases are reported in execution order, once they finish, whether they succeed or fail. Phases that are not
+ *     reached because an earlier one failed are not reported, and neither are the "before all" and "after all"
+ *     phases of examples that do not run hooks of that kind.
+ * </p>
+ *
+ * <p>
+ *     Each hook is also reported on its own, identified by the example group it belongs to and its position among
+ *     the hooks of the same kind in that group, and so is each example as a whole. Hooks and examples are
+ *     reported when they start and when they finish, on the thread that executes them.
+ * </p>
+ *
+ * <p>
+ *     Examples can be executed concurrently, so implementations should be thread-safe.
+ * </p>
+ *
+ * @see j8spec.junit.J8SpecRunner
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface PhaseListener {
+
+    /**
+     * Phase of the execution of an example.
+     * @since 3.1.0
+     */
+    enum Phase {
+        VAR_INITIALIZERS,
+        BEFORE_ALL,
+        BEFORE_EACH,
+        BODY,
+        AFTER_EACH,
+        AFTER_ALL
+    }
+
+    /**
+     * @param containerPath path of the innermost example group the example belongs to, <code>null</code> if the
+     *                      example was not defined in a spec
+     * @param example example being executed
+     * @param phase phase that finished
+     * @param durationNanos time the phase took, in nanoseconds
+     * @since 3.1.0
+     */
+    void phaseFinished(GroupPath containerPath, Example example, Phase phase, long durationNanos);
+
+    /**
+     * @param owner path of the example group the hook belongs to, <code>null</code> if the group was not defined
+     *              in a spec
+     * @param phase kind of hook
+     * @param position position of the hook among the hooks of the same kind in its group, starting at 0
+     * @param example example the hook is executed for
+     * @since 3.1.0
+     */
+    default void hookStarted(GroupPath owner, Phase phase, int position, Example example) {}
+
+    /**
+     * @param owner path of the example group the hook belongs to, <code>null</code> if the group was not defined
+     *              in a spec
+     * @param phase kind of hook
+     * @param position position of the hook among the hooks of the same kind in its group, starting at 0
+     * @param example example the hook was executed for
+     * @param failure exception thrown by the hook, <code>null</code> if it succeeded
+     * @param durationNanos time the hook took, in nanoseconds
+     * @since 3.1.0
+     */
+    default void hookFinished(
+        GroupPath owner,
+        Phase phase,
+        int position,
+        Example example,
+        Throwable failure,
+        long durationNanos
+    ) {}
+
+    /**
+     * @param containerPath path of the innermost example group the example belongs to, <code>null</code> if the
+     *                      example was not defined in a spec
+     * @param example example about to be executed
+     * @since 3.1.0
+     */
+    default void exampleStarted(GroupPath containerPath, Example example) {}
+
+    /**
+     * @param containerPath path of the innermost example group the example belongs to, <code>null</code> if the
+     *                      example was not defined in a spec
+     * @param example example that finished
+     * @param failure exception thrown by the example or its hooks, <code>null</code> if none was thrown
+     * @param durationNanos time the example took along with all its phases, in nanoseconds
+     * @since 3.1.0
+     */
+    default void exampleFinished(GroupPath containerPath, Example example, Throwable failure, long durationNanos) {}
+
+    /**
+     * Reported by execution engines that track example groups, such as {@link j8spec.junit.J8SpecRunner}, before
+     * the first example of the group runs.
+     *
+     * @param path path of the example group
+     * @since 3.1.0
+     */
+    default void groupStarted(GroupPath path) {}
+
+    /**
+     * Reported by execution engines that track example groups once the last example of the group and its
+     * "after all" hooks have run.
+     *
+     * @param path path of the example group
+     * @param durationNanos time from the start of the group to its end, in nanoseconds
+     * @since 3.1.0
+     */
+    default void groupFinished(GroupPath path, long durationNanos) {}
+}
@@ -1,35 +1,49 @@
 package j8spec;
 
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 final class RandomOrderSeedProvider {
 
     private static Logger LOG = Logger.getLogger("j8spec.RandomOrderSeedProvider");
 
-    private static Long seed;
-
-    static synchronized Long seed() {
-        if (seed == null) {
-            String seedFromProperty = System.getProperty("j8spec.seed", "");
-            if ("".equals(seedFromProperty)) {
-                seed = new Random().nextLong();
-                LOG.info("random order seed (generated): " + seed);
-            } else {
-                try {
-                    seed = new Long(seedFromProperty);
-                    LOG.info("random order seed (from system property): " + seed);
-                } catch (NumberFormatException e) {
-                    throw new Exceptions.IllegalSeedProperty(e);
+    private static final AtomicReference<Long> seed = new AtomicReference<>();
+
+    static Long seed() {
+        Long current = seed.get();
+        if (current != null) {
+            return current;
+        }
+
+        String seedFromProperty = System.getProperty("j8spec.seed", "");
+        if ("".equals(seedFromProperty)) {
+            Long generated = new Random().nextLong();
+            if (seed.compareAndSet(null, generated)) {
+                LOG.info("random order seed (generated): " + generated);
+            }
+        } else {
+            try {
+                if (seed.compareAndSet(null, new Long(seedFromProperty))) {
+                    LOG.info("random order seed (from system property): " + seedFromProperty);
                 }
+            } catch (NumberFormatException e) {
+                throw new Exceptions.IllegalSeedProperty(e);
             }
         }
 
-        return seed;
+        return seed.get();
+    }
+
+    /*
+     * Seed used so far, without generating one; null if no spec has been read in random order yet.
+     */
+    static Long current() {
+        return seed.get();
     }
 
-    static synchronized void reset() {
-        seed = null;
+    static void reset() {
+        seed.set(null);
     }
 
     private RandomOrderSeedProvider() {}
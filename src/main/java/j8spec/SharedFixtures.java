@@ -0,0 +1,172 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registry of the fixtures declared with {@link J8Spec#shared(Var, String, UnsafeFunction, UnsafeConsumer)}, shared
+ * by all the specs executed in the JVM.
+ *
+ * <p>
+ *     A fixture starts the first time an example reads a variable bound to it, and each example holds a reference
+ *     to it until the example finishes. Fixtures are torn down once, when the JVM shuts down, or earlier through
+ *     {@link #tearDown()} by whoever knows that no more specs will run.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+public final class SharedFixtures {
+
+    private static final Map<String, Fixture<?>> fixtures = new ConcurrentHashMap<>();
+    private static final AtomicBoolean shutdownHookAdded = new AtomicBoolean();
+
+    private static final class Fixture<T> {
+        private final String name;
+        private final UnsafeFunction<T> start;
+        private final UnsafeConsumer<T> stop;
+        private boolean started;
+        private boolean stopped;
+        private T value;
+        private int references;
+
+        Fixture(String name, UnsafeFunction<T> start, UnsafeConsumer<T> stop) {
+            this.name = name;
+            this.start = start;
+            this.stop = stop;
+        }
+
+        /*
+         * False when the fixture was torn down in the meantime, so that a new one is registered.
+         */
+        synchronized boolean acquire() throws Throwable {
+            if (stopped) {
+                return false;
+            }
+            if (!started) {
+                value = start.tryToGet();
+                started = true;
+                addShutdownHook();
+            }
+            references++;
+            return true;
+        }
+
+        synchronized T value() {
+            return value;
+        }
+
+        synchronized void release() {
+            references--;
+        }
+
+        synchronized boolean tearDown(boolean force) throws Throwable {
+            if (stopped || references > 0 && !force) {
+                return false;
+            }
+            stopped = true;
+            if (started) {
+                stop.tryToAccept(value);
+                value = null;
+            }
+            return true;
+        }
+
+        synchronized int references() {
+            return references;
+        }
+    }
+
+    /*
+     * Initialization function of a variable bound to a shared fixture.
+     */
+    static final class Lender<T> implements UnsafeFunction<T> {
+        private final String name;
+        private final UnsafeFunction<T> start;
+        private final UnsafeConsumer<T> stop;
+
+        Lender(String name, UnsafeFunction<T> start, UnsafeConsumer<T> stop) {
+            this.name = name;
+            this.start = start;
+            this.stop = stop;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T tryToGet() throws Throwable {
+            VarContext context = VarContext.current();
+            if (context == null) {
+                throw new IllegalStateException("Shared fixtures can only be read while an example is executed.");
+            }
+
+            while (true) {
+                Fixture<T> fixture = (Fixture<T>) fixtures.computeIfAbsent(
+                    name,
+                    key -> new Fixture<>(key, start, stop)
+                );
+                if (fixture.acquire()) {
+                    context.onRelease(fixture::release);
+                    return fixture.value();
+                }
+                fixtures.remove(name, fixture);
+            }
+        }
+    }
+
+    /**
+     * @param name name of the fixture
+     * @return number of examples using the fixture right now, 0 if it is not registered
+     * @since 3.1.0
+     */
+    public static int references(String name) {
+        Fixture<?> fixture = fixtures.get(name);
+        return fixture == null ? 0 : fixture.references();
+    }
+
+    /**
+     * Tears down the fixtures that no example is using, in no particular order. Fixtures that are used again later
+     * start again.
+     *
+     * @throws Exceptions.SharedFixtureTearDownFailed if one or more fixtures fail to be torn down; the others are
+     * still torn down
+     * @since 3.1.0
+     */
+    public static void tearDown() {
+        tearDown(false);
+    }
+
+    private static void tearDown(boolean force) {
+        List<Throwable> failures = new ArrayList<>();
+        for (Fixture<?> fixture : fixtures.values()) {
+            try {
+                if (fixture.tearDown(force)) {
+                    fixtures.remove(fixture.name, fixture);
+                }
+            } catch (Throwable e) {
+                fixtures.remove(fixture.name, fixture);
+                failures.add(e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new Exceptions.SharedFixtureTearDownFailed(failures);
+        }
+    }
+
+    private static void addShutdownHook() {
+        if (shutdownHookAdded.compareAndSet(false, true)) {
+            Thread hook = new Thread(() -> {
+                try {
+                    tearDown(true);
+                } catch (Exceptions.SharedFixtureTearDownFailed e) {
+                    e.printStackTrace();
+                }
+            }, "j8spec-shared-fixtures");
+            Runtime.getRuntime().addShutdownHook(hook);
+        }
+    }
+
+    private SharedFixtures() {}
+}
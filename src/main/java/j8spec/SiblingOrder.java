@@ -0,0 +1,79 @@
+package j8spec;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+/*
+ * Decides the order in which the examples and example groups defined directly in a group are executed.
+ */
+final class SiblingOrder {
+
+    private static final Logger LOG = Logger.getLogger("j8spec.SiblingOrder");
+
+    private interface Strategy {
+        void order(List<?> siblings);
+    }
+
+    private static final class DefinedStrategy implements Strategy {
+        static final DefinedStrategy INSTANCE = new DefinedStrategy();
+
+        private DefinedStrategy() {}
+
+        @Override
+        public void order(List<?> siblings) {}
+    }
+
+    private static final class RandomStrategy implements Strategy {
+        private final Random random;
+
+        RandomStrategy(Long seed) {
+            this.random = new Random(seed);
+        }
+
+        @Override
+        public void order(List<?> siblings) {
+            Collections.shuffle(siblings, random);
+        }
+    }
+
+    private final Deque<Strategy> strategies = new LinkedList<>();
+
+    void pushLevel(ExampleGroupConfiguration config) {
+        switch (config.executionOrder()) {
+            case DEFINED:
+                strategies.push(DefinedStrategy.INSTANCE);
+                break;
+            case RANDOM:
+                Long seed = config.seed();
+                if (seed == null) {
+                    seed = RandomOrderSeedProvider.seed();
+                } else {
+                    LOG.info("overriding random order seed for '" + config.description() + "': " + seed);
+                }
+                strategies.push(new RandomStrategy(seed));
+                break;
+            case DEFAULT:
+                if (strategies.isEmpty()) {
+                    throw new IllegalStateException();
+                }
+
+                strategies.push(strategies.peek());
+                break;
+        }
+    }
+
+    void popLevel() {
+        strategies.pop();
+    }
+
+    /*
+     * Reorders, in place and in linear time, the siblings of the current level.
+     */
+    void order(List<?> siblings) {
+        strategies.peek().order(siblings);
+    }
+}
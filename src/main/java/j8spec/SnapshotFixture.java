@@ -0,0 +1,33 @@
+package j8spec;
+
+import java.util.function.UnaryOperator;
+
+/*
+ * Initialization function of a snapshot variable: builds the original the first time any example reads the variable
+ * and hands each example its own copy of it.
+ */
+final class SnapshotFixture<T> implements UnsafeFunction<T> {
+
+    private final UnsafeFunction<T> factory;
+    private final UnaryOperator<T> copier;
+    private boolean built;
+    private T original;
+
+    SnapshotFixture(UnsafeFunction<T> factory, UnaryOperator<T> copier) {
+        this.factory = factory;
+        this.copier = copier;
+    }
+
+    @Override
+    public T tryToGet() throws Throwable {
+        return copier.apply(original());
+    }
+
+    private synchronized T original() throws Throwable {
+        if (!built) {
+            original = factory.tryToGet();
+            built = true;
+        }
+        return original;
+    }
+}
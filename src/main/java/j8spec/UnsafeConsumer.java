@@ -0,0 +1,13 @@
+package j8spec;
+
+/**
+ * Represents a block of code that takes one argument.
+ *
+ * @param <T> the type of the argument
+ * @see java.util.function.Consumer
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface UnsafeConsumer<T> {
+    void tryToAccept(T value) throws Throwable;
+}
@@ -2,11 +2,24 @@ package j8spec;
 
 /**
  * Wrapper object to allow "final" variables to have their value modified.
+ *
+ * <p>
+ *     Variables created while a spec is read keep the values assigned by an example, and by its
+ *     {@link J8Spec#let(Var, UnsafeFunction) let} initializers, apart from the values of other examples executing
+ *     at the same time; hooks and examples read them on the thread that executes the example. Values assigned
+ *     outside an example, or by "before all" and "after all" hooks, are shared with every example.
+ * </p>
+ *
  * @since 1.0.0
  */
 public final class Var<T> {
 
-    T value;
+    static final int NO_SLOT = -1;
+
+    final int slot;
+    private volatile T value;
+    private volatile VarInitializer<T> initializer;
+    private volatile boolean evaluating;
 
     /**
      * Creates a wrapper object to allow "final" variables to have their value modified. The initial
@@ -18,7 +31,7 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> Var<T> var() {
-        return new Var<>();
+        return J8Spec.var();
     }
 
     /**
@@ -31,7 +44,7 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var) {
-        return var.value;
+        return var.get();
     }
 
     /**
@@ -45,8 +58,77 @@ public final class Var<T> {
      */
     @Deprecated
     public static <T> T var(Var<T> var, T value) {
-        return var.value = value;
+        return var.set(value);
+    }
+
+    Var(int slot) {
+        this.slot = slot;
+    }
+
+    void initializeWith(VarInitializer<T> initializer) {
+        VarContext context = slot == NO_SLOT ? null : VarContext.current();
+        if (context != null && !context.sharesWrites()) {
+            context.initializeWith(this, initializer);
+            return;
+        }
+
+        synchronized (this) {
+            this.value = null;
+            this.initializer = initializer;
+        }
+    }
+
+    T get() {
+        VarContext context = slot == NO_SLOT ? null : VarContext.current();
+        if (context != null && context.holds(this)) {
+            return context.get(this);
+        }
+
+        if (initializer != null || evaluating) {
+            evaluateShared();
+        }
+        return value;
+    }
+
+    /*
+     * The shared value is evaluated once, by whichever thread reads it first; other threads wait for it instead of
+     * reading it before it is set. evaluating is raised before the initializer is cleared so they cannot miss both.
+     */
+    private synchronized void evaluateShared() {
+        VarInitializer<T> pending = initializer;
+        if (pending != null) {
+            evaluating = true;
+            initializer = null;
+            try {
+                value = evaluate(pending);
+            } finally {
+                evaluating = false;
+            }
+        }
     }
 
-    Var() {}
+    T set(T value) {
+        VarContext context = slot == NO_SLOT ? null : VarContext.current();
+        if (context != null) {
+            if (!context.sharesWrites()) {
+                return context.set(this, value);
+            }
+            context.forget(this);
+        }
+
+        synchronized (this) {
+            this.initializer = null;
+            return this.value = value;
+        }
+    }
+
+    static <T> T evaluate(VarInitializer<T> initializer) {
+        try {
+            return initializer.value();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new Exceptions.VariableInitializationFailed(e);
+        }
+    }
 }
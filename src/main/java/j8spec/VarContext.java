@@ -0,0 +1,178 @@
+package j8spec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+ * Values of the variables of a spec for one execution of an example, indexed by the slot each variable got when the
+ * spec was read. A context is confined to the thread executing the example, so concurrent examples of the same spec
+ * see their own values without locking.
+ *
+ * Variables without a value in the context fall back to the value they share with every example, which is also
+ * where values assigned while running "before all" and "after all" hooks go, so that the examples of the group see
+ * them.
+ *
+ * Fixtures leased by the example are given back when it releases them, or when the context is closed if the example
+ * halted before that.
+ *
+ * Each thread keeps its contexts and reuses them from one example to the next, clearing the slots the example used
+ * when it closes, so executing an example allocates nothing. An example executed while another one is executing on
+ * the same thread gets the next context in the chain.
+ */
+final class VarContext {
+
+    /*
+     * Stands in for a context when executing examples of specs without variables; it is never current and never
+     * holds anything.
+     */
+    static final VarContext NONE = new VarContext();
+
+    private static final ThreadLocal<VarContext> CONTEXTS = ThreadLocal.withInitial(VarContext::new);
+    private static final Var<?>[] NO_VARS = {};
+    private static final Object[] NO_VALUES = {};
+    private static final VarInitializer<?>[] NO_INITIALIZERS = {};
+
+    private VarContext nested;
+    private boolean open;
+    private int claimed;
+    private Var<?>[] owners = NO_VARS;
+    private Object[] values = NO_VALUES;
+    private VarInitializer<?>[] initializers = NO_INITIALIZERS;
+    private boolean sharingWrites;
+    private List<UnsafeBlock> releases;
+
+    static VarContext open() {
+        VarContext context = CONTEXTS.get();
+        while (context.open) {
+            if (context.nested == null) {
+                context.nested = new VarContext();
+            }
+            context = context.nested;
+        }
+        context.open = true;
+        return context;
+    }
+
+    void close() {
+        if (this == NONE) {
+            return;
+        }
+        if (releases != null || claimed > 0) {
+            clear();
+        }
+        sharingWrites = false;
+        open = false;
+    }
+
+    private void clear() {
+        if (releases != null) {
+            for (UnsafeBlock release : releases) {
+                try {
+                    release.tryToExecute();
+                } catch (Throwable ignored) {
+                    // the example already failed, and the fixture has been discarded
+                }
+            }
+            releases = null;
+        }
+
+        Arrays.fill(owners, 0, claimed, null);
+        Arrays.fill(values, 0, claimed, null);
+        Arrays.fill(initializers, 0, claimed, null);
+        claimed = 0;
+    }
+
+    /*
+     * Null when no example is executing on the current thread.
+     */
+    static VarContext current() {
+        VarContext context = CONTEXTS.get();
+        if (!context.open) {
+            return null;
+        }
+        while (context.nested != null && context.nested.open) {
+            context = context.nested;
+        }
+        return context;
+    }
+
+    /*
+     * While set, assigned values are shared with every example rather than kept in this context.
+     */
+    void shareWrites(boolean sharingWrites) {
+        if (this == NONE) {
+            return;
+        }
+        this.sharingWrites = sharingWrites;
+    }
+
+    boolean sharesWrites() {
+        return sharingWrites;
+    }
+
+    void onRelease(UnsafeBlock release) {
+        if (releases == null) {
+            releases = new ArrayList<>(1);
+        }
+        releases.add(release);
+    }
+
+    void releaseFixtures(Exceptions.Collector collector) {
+        if (releases != null) {
+            List<UnsafeBlock> pending = releases;
+            releases = null;
+            for (UnsafeBlock release : pending) {
+                collector.execute(release);
+            }
+        }
+    }
+
+    boolean holds(Var<?> var) {
+        return var.slot < owners.length && owners[var.slot] == var;
+    }
+
+    <T> void initializeWith(Var<T> var, VarInitializer<T> initializer) {
+        claim(var);
+        values[var.slot] = null;
+        initializers[var.slot] = initializer;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T get(Var<T> var) {
+        int slot = var.slot;
+        VarInitializer<T> pending = (VarInitializer<T>) initializers[slot];
+        if (pending != null) {
+            initializers[slot] = null;
+            values[slot] = Var.evaluate(pending);
+        }
+        return (T) values[slot];
+    }
+
+    <T> T set(Var<T> var, T value) {
+        claim(var);
+        initializers[var.slot] = null;
+        values[var.slot] = value;
+        return value;
+    }
+
+    void forget(Var<?> var) {
+        if (holds(var)) {
+            owners[var.slot] = null;
+            values[var.slot] = null;
+            initializers[var.slot] = null;
+        }
+    }
+
+    private void claim(Var<?> var) {
+        int slot = var.slot;
+        if (slot >= owners.length) {
+            int length = Math.max(slot + 1, owners.length * 2);
+            owners = Arrays.copyOf(owners, length);
+            values = Arrays.copyOf(values, length);
+            initializers = Arrays.copyOf(initializers, length);
+        }
+        owners[slot] = var;
+        claimed = Math.max(claimed, slot + 1);
+    }
+}
@@ -1,23 +1,70 @@
 package j8spec;
 
-import static j8spec.J8Spec.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/*
+ * Sets up its variable before each example so that the initialization function runs when the variable is first
+ * read, if ever. Values are kept according to the scope: not at all, by this initializer, or by a memo shared by
+ * all the initializers for the same variable of the same example group across reads, until the run of the spec
+ * finishes. Run memos are looked up when the variable is read, so that a later run starts with a fresh one.
+ */
 class VarInitializer<T> implements UnsafeBlock {
 
+    private static final Map<String, Map<Object, Memo>> RUN_MEMOS = new ConcurrentHashMap<>();
+
+    private static final class Memo {
+        private boolean initialized;
+        private Object value;
+
+        synchronized Object get(UnsafeFunction<?> function) throws Throwable {
+            if (!initialized) {
+                value = function.tryToGet();
+                initialized = true;
+            }
+            return value;
+        }
+    }
+
     private final Var<T> variable;
     private final UnsafeFunction<T> function;
-    private T value;
+    private final Memo memo;
+    private final String specName;
+    private final Object runKey;
 
     VarInitializer(Var<T> variable, UnsafeFunction<T> function) {
+        this(variable, VarScope.GROUP, function, null, null);
+    }
+
+    /*
+     * specName and runKey identify the initializer across reads of the spec, only needed for the RUN scope.
+     */
+    VarInitializer(Var<T> variable, VarScope scope, UnsafeFunction<T> function, String specName, Object runKey) {
         this.variable = variable;
         this.function = function;
+        this.specName = scope == VarScope.RUN ? specName : null;
+        this.runKey = runKey;
+        this.memo = scope == VarScope.GROUP ? new Memo() : null;
+    }
+
+    static void discardRunMemos(String specName) {
+        RUN_MEMOS.remove(specName);
     }
 
     @Override
-    public void tryToExecute() throws Throwable {
-        if (value == null) {
-            value = function.tryToGet();
-        }
-        var(variable, value);
+    public void tryToExecute() {
+        variable.initializeWith(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    T value() throws Throwable {
+        Memo memo = specName == null ? this.memo : runMemo();
+        return memo == null ? function.tryToGet() : (T) memo.get(function);
+    }
+
+    private Memo runMemo() {
+        return RUN_MEMOS
+            .computeIfAbsent(specName, name -> new ConcurrentHashMap<>())
+            .computeIfAbsent(runKey, key -> new Memo());
     }
 }
@@ -0,0 +1,29 @@
+package j8spec;
+
+/**
+ * How long the value of a variable initialized with
+ * {@link J8Spec#let(Var, VarScope, UnsafeFunction) let} is kept. Whatever the scope, the initialization function
+ * runs only when the variable is first read.
+ *
+ * @since 3.1.0
+ */
+public enum VarScope {
+
+    /**
+     * A fresh value for every example.
+     */
+    EXAMPLE,
+
+    /**
+     * One value shared by all the examples in the example group that initializes the variable, including its inner
+     * groups, every time the spec is read.
+     */
+    GROUP,
+
+    /**
+     * One value shared by all the examples in the example group that initializes the variable, for the whole run
+     * of the spec, even if the spec is read again. The run finishes when {@link J8Spec#finishRun(Class)} is called,
+     * which {@link j8spec.junit.J8SpecRunner} does once the spec has run.
+     */
+    RUN
+}
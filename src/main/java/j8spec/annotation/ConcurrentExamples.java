@@ -0,0 +1,23 @@
+package j8spec.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Examples in a spec annotated with this may be executed concurrently with the other examples of the same group
+ * when the system property <code>j8spec.junit.parallel</code> is <code>true</code>.
+ *
+ * <p>
+ * <b>Note:</b> Use this annotation only when the examples in the spec do not share mutable state.
+ * </p>
+ *
+ * @since 3.1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface ConcurrentExamples {
+}
@@ -0,0 +1,232 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.ExampleGroup;
+import j8spec.PhaseListener;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.MultipleFailureException;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static j8spec.PhaseListener.Phase.AFTER_ALL;
+import static j8spec.PhaseListener.Phase.BEFORE_ALL;
+
+/**
+ * Executes an example group as a single scheduling unit: its "before all" hooks run once before any of the inner
+ * examples and example groups are forked, and its "after all" hooks run once, as part of whichever inner example
+ * finishes last.
+ */
+final class ExampleGroupTask extends RecursiveAction {
+
+    private static final class Pool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(Integer.getInteger(
+            "j8spec.junit.parallelism",
+            Runtime.getRuntime().availableProcessors()
+        ));
+    }
+
+    static void execute(J8SpecRunner runner, List<Example> examples, RunNotifier notifier) {
+        if (examples.isEmpty()) {
+            return;
+        }
+
+        Map<ExampleGroup, ExampleGroupTask> tasks = new IdentityHashMap<>();
+        ExampleGroupTask root = null;
+
+        for (Example example : examples) {
+            ExampleGroupTask task = taskFor(example.group(), tasks, runner, notifier);
+            task.examples.add(example);
+            if (!example.shouldBeIgnored()) {
+                task.expect(example);
+            }
+        }
+
+        for (ExampleGroupTask task : tasks.values()) {
+            if (task.parent == null) {
+                root = task;
+            }
+        }
+
+        (runner.pool() == null ? Pool.INSTANCE : runner.pool()).invoke(root);
+    }
+
+    private static ExampleGroupTask taskFor(
+        ExampleGroup group,
+        Map<ExampleGroup, ExampleGroupTask> tasks,
+        J8SpecRunner runner,
+        RunNotifier notifier
+    ) {
+        ExampleGroupTask task = tasks.get(group);
+        if (task == null) {
+            ExampleGroupTask parent = group.parent() == null
+                ? null
+                : taskFor(group.parent(), tasks, runner, notifier);
+
+            task = new ExampleGroupTask(group, parent, runner, notifier);
+            tasks.put(group, task);
+
+            if (parent != null) {
+                parent.groups.add(task);
+            }
+        }
+        return task;
+    }
+
+    private final ExampleGroup group;
+    private final ExampleGroupTask parent;
+    private final J8SpecRunner runner;
+    private final RunNotifier notifier;
+    private final List<Example> examples = new ArrayList<>();
+    private final List<ExampleGroupTask> groups = new ArrayList<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private Example lead;
+    private long groupStart;
+
+    private ExampleGroupTask(ExampleGroup group, ExampleGroupTask parent, J8SpecRunner runner, RunNotifier notifier) {
+        this.group = group;
+        this.parent = parent;
+        this.runner = runner;
+        this.notifier = notifier;
+    }
+
+    /*
+     * "pending" counts the units that still have to finish before the "after all" hooks can run: the inner
+     * examples that are not ignored plus the inner groups that have at least one of those.
+     */
+    private void expect(Example example) {
+        if (pending.getAndIncrement() == 0) {
+            lead = example;
+            if (parent != null) {
+                parent.expect(example);
+            }
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (lead != null) {
+            PhaseListener listener = runner.phaseListener();
+            if (listener != null) {
+                listener.groupStarted(group.groupPath());
+            }
+            groupStart = System.nanoTime();
+
+            Throwable failure = null;
+            try {
+                group.tryToExecuteBeforeAllHooks(lead, runner.phaseListener());
+            } catch (Throwable e) {
+                failure = e;
+            }
+            report(lead, BEFORE_ALL, groupStart);
+
+            if (failure != null) {
+                abort(failure);
+                return;
+            }
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(groups);
+
+        if (group.allowsConcurrentExamples()) {
+            for (Example example : examples) {
+                tasks.add(adapt(() -> run(example)));
+            }
+        } else if (!examples.isEmpty()) {
+            tasks.add(adapt(() -> examples.forEach(this::run)));
+        }
+
+        invokeAll(tasks);
+    }
+
+    /*
+     * An example abandoned on timeout (see j8spec.junit.timeout.abandon) may never finish, so its groups are
+     * completed as soon as the runner gives up on it, and only once whichever way comes first.
+     */
+    private void run(Example example) {
+        boolean expected = !example.shouldBeIgnored();
+        AtomicBoolean completed = new AtomicBoolean();
+        runner.runChild(example, () -> {
+            List<Throwable> failures = new ArrayList<>();
+            try {
+                example.tryToExecuteWithinGroup(runner.phaseListener());
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+            if (completed.compareAndSet(false, true)) {
+                complete(this, example, failures);
+            }
+            MultipleFailureException.assertEmpty(failures);
+        }, notifier);
+
+        if (expected && completed.compareAndSet(false, true)) {
+            List<Throwable> failures = new ArrayList<>();
+            complete(this, example, failures);
+            for (Throwable failure : failures) {
+                notifier.fireTestFailure(new Failure(runner.describeChild(example), failure));
+            }
+        }
+    }
+
+    private void abort(Throwable beforeAllFailure) {
+        runner.runChild(lead, () -> {
+            List<Throwable> failures = new ArrayList<>();
+            failures.add(beforeAllFailure);
+            finish();
+            complete(parent, lead, failures);
+            MultipleFailureException.assertEmpty(failures);
+        }, notifier);
+
+        ignoreAllBut(lead);
+    }
+
+    /*
+     * "before all" and "after all" hooks run here once per group, so their time is reported for the example that
+     * triggers them: the lead example and the one that finishes last.
+     */
+    private static void complete(ExampleGroupTask task, Example example, List<Throwable> failures) {
+        for (; task != null && task.pending.decrementAndGet() == 0; task = task.parent) {
+            long start = System.nanoTime();
+            try {
+                task.group.tryToExecuteAfterAllHooks(example, task.runner.phaseListener());
+            } catch (Throwable e) {
+                failures.add(e);
+            }
+            task.report(example, AFTER_ALL, start);
+            task.finish();
+        }
+    }
+
+    private void finish() {
+        PhaseListener listener = runner.phaseListener();
+        if (listener != null) {
+            listener.groupFinished(group.groupPath(), System.nanoTime() - groupStart);
+        }
+    }
+
+    private void report(Example example, PhaseListener.Phase phase, long start) {
+        PhaseListener listener = runner.phaseListener();
+        if (listener != null) {
+            listener.phaseFinished(example.groupPath(), example, phase, System.nanoTime() - start);
+        }
+    }
+
+    private void ignoreAllBut(Example failed) {
+        for (Example example : examples) {
+            if (example != failed) {
+                notifier.fireTestIgnored(runner.describeChild(example));
+            }
+        }
+        for (ExampleGroupTask task : groups) {
+            task.ignoreAllBut(failed);
+        }
+    }
+}
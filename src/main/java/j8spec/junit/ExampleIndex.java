@@ -0,0 +1,101 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.GroupPath;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Looks up examples by group path or by name without going through all the examples of the spec: every example
+ * group is indexed by its joined name, and holds its own examples by description and its inner example groups.
+ */
+final class ExampleIndex {
+
+    private static final class Group {
+        final Map<String, Example> examples = new HashMap<>();
+        final List<Group> groups = new ArrayList<>();
+
+        void collect(List<Example> result) {
+            result.addAll(examples.values());
+            for (Group group : groups) {
+                group.collect(result);
+            }
+        }
+    }
+
+    private final String separator;
+    private final Map<String, Group> groups = new HashMap<>();
+
+    ExampleIndex(List<Example> examples, String separator) {
+        this.separator = separator;
+
+        Map<GroupPath, Group> groupsByPath = new IdentityHashMap<>();
+        for (Example example : examples) {
+            groupFor(example.groupPath(), groupsByPath).examples.put(example.description(), example);
+        }
+    }
+
+    private Group groupFor(GroupPath path, Map<GroupPath, Group> groupsByPath) {
+        if (path == null || path.parent() == null) {
+            return groups.computeIfAbsent("", name -> new Group());
+        }
+
+        Group group = groupsByPath.get(path);
+        if (group == null) {
+            group = new Group();
+            groupsByPath.put(path, group);
+            groups.put(path.joinedName(separator), group);
+            groupFor(path.parent(), groupsByPath).groups.add(group);
+        }
+        return group;
+    }
+
+    /**
+     * @param name example group path, as in the child names built by {@link J8SpecRunner}, or child name
+     * @return all the examples in the matching example group plus the matching example, in execution order
+     */
+    List<Example> select(String name) {
+        List<Example> result = new ArrayList<>();
+
+        Group group = groups.get(name);
+        if (group != null) {
+            group.collect(result);
+        }
+        result.addAll(findByChildName(name));
+
+        List<Example> selected = new ArrayList<>(new LinkedHashSet<>(result));
+        Collections.sort(selected);
+        return selected;
+    }
+
+    /**
+     * @param childName name built by {@link J8SpecRunner} with the default description format
+     * @return examples with the given child name, usually just one
+     */
+    List<Example> findByChildName(String childName) {
+        List<Example> result = new ArrayList<>(1);
+
+        addExample(groups.get(""), childName, result);
+
+        for (int i = childName.indexOf('/'); i >= 0; i = childName.indexOf('/', i + 1)) {
+            addExample(groups.get(childName.substring(0, i)), childName.substring(i + 1), result);
+        }
+
+        return result;
+    }
+
+    private static void addExample(Group group, String description, List<Example> result) {
+        if (group != null) {
+            Example example = group.examples.get(description);
+            if (example != null) {
+                result.add(example);
+            }
+        }
+    }
+}
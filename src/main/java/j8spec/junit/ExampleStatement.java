@@ -1,36 +1,41 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.UnsafeBlock;
 import org.junit.internal.runners.statements.ExpectException;
 import org.junit.internal.runners.statements.FailOnTimeout;
 import org.junit.runners.model.Statement;
 
 final class ExampleStatement extends Statement {
 
-    private final Example example;
+    private final UnsafeBlock block;
 
     static Statement newStatement(Example example) {
-        Statement statement = new ExampleStatement(example);
+        return newStatement(example, example);
+    }
+
+    static Statement newStatement(Example example, UnsafeBlock block) {
+        Statement statement = new ExampleStatement(block);
 
         if (example.isExpectedToThrowAnException()) {
             statement = new ExpectException(statement, example.expected());
         }
 
         if (example.shouldFailOnTimeout()) {
-            statement = FailOnTimeout.builder()
-                .withTimeout(example.timeout(), example.timeoutUnit())
-                .build(statement);
+            statement = Boolean.valueOf(System.getProperty("j8spec.junit.timeout.abandon", "false"))
+                ? FailOnTimeout.builder().withTimeout(example.timeout(), example.timeoutUnit()).build(statement)
+                : new InterruptOnTimeout(statement, example.timeout(), example.timeoutUnit());
         }
 
         return statement;
     }
 
-    private ExampleStatement(Example example) {
-        this.example = example;
+    private ExampleStatement(UnsafeBlock block) {
+        this.block = block;
     }
 
     @Override
     public void evaluate() throws Throwable {
-        example.tryToExecute();
+        block.tryToExecute();
     }
 }
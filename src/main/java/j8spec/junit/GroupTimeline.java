@@ -0,0 +1,67 @@
+package j8spec.junit;
+
+import j8spec.GroupPath;
+import j8spec.PhaseListener;
+
+import java.util.Arrays;
+
+/**
+ * Tells a {@link PhaseListener} when example groups start and finish while examples run one after the other: a
+ * group starts with the first of its examples and finishes as soon as an example outside of it runs, or when
+ * there are no examples left.
+ */
+final class GroupTimeline {
+
+    private final PhaseListener listener;
+    private GroupPath[] open = new GroupPath[8];
+    private long[] starts = new long[8];
+    private int depth;
+
+    GroupTimeline(PhaseListener listener) {
+        this.listener = listener;
+    }
+
+    void enter(GroupPath path) {
+        int pathDepth = 0;
+        for (GroupPath current = path; current != null; current = current.parent()) {
+            pathDepth++;
+        }
+
+        GroupPath common = path;
+        int level = pathDepth - 1;
+        for (; level >= depth; level--) {
+            common = common.parent();
+        }
+        for (; level >= 0 && open[level] != common; level--) {
+            common = common.parent();
+        }
+
+        finishDownTo(level + 1);
+
+        if (pathDepth > open.length) {
+            open = Arrays.copyOf(open, Math.max(pathDepth, open.length * 2));
+            starts = Arrays.copyOf(starts, open.length);
+        }
+        GroupPath current = path;
+        for (int i = pathDepth - 1; i > level; i--) {
+            open[i] = current;
+            current = current.parent();
+        }
+        for (int i = level + 1; i < pathDepth; i++) {
+            listener.groupStarted(open[i]);
+            starts[i] = System.nanoTime();
+        }
+        depth = pathDepth;
+    }
+
+    void finish() {
+        finishDownTo(0);
+    }
+
+    private void finishDownTo(int newDepth) {
+        for (; depth > newDepth; depth--) {
+            listener.groupFinished(open[depth - 1], System.nanoTime() - starts[depth - 1]);
+            open[depth - 1] = null;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package j8spec.junit;
+
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the next statement on the calling thread and interrupts it when the timeout expires. A single watchdog
+ * thread is shared by all statements.
+ *
+ * <p>
+ *     The statement fails with {@link TestTimedOutException} when the timeout expires, even if the next statement
+ *     handles the interruption and returns normally. Code that does not respond to interruption runs to completion
+ *     before the failure is reported.
+ * </p>
+ */
+final class InterruptOnTimeout extends Statement {
+
+    private static final class Watchdog {
+        static final ScheduledThreadPoolExecutor INSTANCE = newWatchdog();
+
+        private static ScheduledThreadPoolExecutor newWatchdog() {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "j8spec-timeout-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            return executor;
+        }
+    }
+
+    private static final class Deadline extends AtomicInteger implements Runnable {
+        private static final int RUNNING = 0;
+        private static final int FINISHED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Thread thread;
+        private StackTraceElement[] stackTrace;
+
+        Deadline(Thread thread) {
+            super(RUNNING);
+            this.thread = thread;
+        }
+
+        @Override
+        public void run() {
+            stackTrace = thread.getStackTrace();
+            if (compareAndSet(RUNNING, EXPIRED)) {
+                thread.interrupt();
+            }
+        }
+
+        boolean finish() {
+            return compareAndSet(RUNNING, FINISHED);
+        }
+    }
+
+    private final Statement next;
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    InterruptOnTimeout(Statement next, long timeout, TimeUnit timeUnit) {
+        this.next = next;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+    }
+
+    @Override
+    public void evaluate() throws Throwable {
+        Deadline deadline = new Deadline(Thread.currentThread());
+        ScheduledFuture<?> alarm = Watchdog.INSTANCE.schedule(deadline, timeout, timeUnit);
+
+        Throwable failure = null;
+        try {
+            next.evaluate();
+        } catch (Throwable e) {
+            failure = e;
+        }
+
+        if (deadline.finish()) {
+            alarm.cancel(false);
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+
+        clearInterruption(alarm);
+
+        TestTimedOutException exception = new TestTimedOutException(timeout, timeUnit);
+        exception.setStackTrace(deadline.stackTrace);
+        throw exception;
+    }
+
+    /*
+     * Waits for the watchdog to deliver the interruption, so it cannot leak into whatever the thread runs next.
+     */
+    private static void clearInterruption(Future<?> alarm) {
+        while (true) {
+            try {
+                alarm.get();
+                break;
+            } catch (InterruptedException ignored) {
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        Thread.interrupted();
+    }
+}
@@ -1,37 +1,203 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.FlightRecording;
+import j8spec.GroupPath;
 import j8spec.J8Spec;
+import j8spec.PhaseListener;
+import j8spec.UnsafeBlock;
 import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.ParentRunner;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
 
-import java.util.HashMap;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
+import static j8spec.Example.relink;
 import static j8spec.junit.ExampleStatement.newStatement;
+import static java.util.stream.Collectors.toList;
 import static org.junit.runner.Description.createTestDescription;
 
 /**
  * JUnit runner for J8Spec specs.
+ *
+ * <p>
+ *     When the system property <code>j8spec.junit.parallel</code> is <code>true</code>, sibling example groups
+ *     are executed concurrently (see also {@link j8spec.annotation.ConcurrentExamples}). The size of the thread
+ *     pool can be set through the system property <code>j8spec.junit.parallelism</code>.
+ * </p>
+ *
+ * <p>
+ *     The system property <code>j8spec.filter</code> selects the examples to run, either by the path of an example
+ *     group (descriptions of the groups below the spec joined by <code>j8spec.junit.description.separator</code>)
+ *     or by the name of a single example as reported to JUnit. Example groups without selected examples do not run
+ *     their hooks. When the system property <code>j8spec.read.lazy</code> is also <code>true</code>, the bodies of
+ *     the example groups without selected examples are not even executed (see {@link J8Spec#read(Class)}).
+ * </p>
+ *
+ * <p>
+ *     How long each phase of an example takes is reported to the {@link PhaseListener}s named, comma separated,
+ *     by the system property <code>j8spec.junit.phase.listeners</code> and to the ones registered through
+ *     {@link ServiceLoader}. Both kinds need a public constructor without arguments. When the JVM is recording with
+ *     the JDK Flight Recorder, spec events are also emitted (see {@link FlightRecording}).
+ * </p>
+ *
+ * <p>
+ *     When the system property <code>j8spec.junit.slowest</code> is set to a positive number <code>N</code>, the
+ *     <code>N</code> slowest examples and the <code>N</code> hooks that took the longest in total are reported once
+ *     the spec has run. Hooks are identified by the example group they belong to and their position in it. The
+ *     report is printed to the standard output, or appended to the file named by the system property
+ *     <code>j8spec.junit.slowest.file</code>.
+ * </p>
+ *
+ * <p>
+ *     Example timeouts are cooperative: timed examples run on the calling thread, which is interrupted when the
+ *     timeout expires, and fail once they stop. When the system property <code>j8spec.junit.timeout.abandon</code>
+ *     is <code>true</code>, timed examples run on a thread of their own instead, so that examples that ignore the
+ *     interruption fail at the deadline and are left running in the background, without the thread-local state of
+ *     the caller. The "after all" hooks of the groups of an abandoned example then run without waiting for it.
+ * </p>
+ *
  * @since 1.0.0
  */
 public final class J8SpecRunner extends ParentRunner<Example> {
 
+    private static final String DEFAULT_DESCRIPTION_FORMAT = "%1$s/%2$s";
+    private static final String METHOD_FILTER_PREFIX = "Method ";
+
     private final String specName;
-    private final Map<Example, Description> descriptions = new HashMap<>();
-    private final List<Example> examples;
+    private final String format;
+    private final String separator;
+    private final SlowestReport slowestReport;
+    private final PhaseListener phaseListener;
+    private final ForkJoinPool pool;
+    private List<Example> examples;
+    private Description[] descriptions;
+    private ExampleIndex index;
+    private GroupTimeline groupTimeline;
 
     public J8SpecRunner(Class<?> testClass) throws InitializationError {
+        this(testClass, null);
+    }
+
+    /*
+     * pool executes the example groups in parallel mode, null for the pool shared by all runners.
+     */
+    J8SpecRunner(Class<?> testClass, ForkJoinPool pool) throws InitializationError {
         super(testClass);
+        this.pool = pool;
         try {
             specName = testClass.getName();
             examples = J8Spec.read(testClass);
+            int slowest = Integer.getInteger("j8spec.junit.slowest", 0);
+            slowestReport = slowest > 0 ? new SlowestReport(slowest) : null;
+            phaseListener = loadPhaseListener(testClass, slowestReport);
         } catch (Exception e) {
             throw new InitializationError(e);
         }
+
+        format = System.getProperty("j8spec.junit.description.format", DEFAULT_DESCRIPTION_FORMAT);
+        separator = System.getProperty("j8spec.junit.description.separator", "/");
+        descriptions = new Description[examples.size()];
+        for (Example example : examples) {
+            descriptions[example.position()] = createTestDescription(specName, buildChildName(example));
+        }
+
+        String filter = System.getProperty("j8spec.filter", "");
+        if (!filter.isEmpty()) {
+            select(index().select(filter));
+        }
+    }
+
+    private static PhaseListener loadPhaseListener(
+        Class<?> testClass,
+        SlowestReport slowestReport
+    ) throws ReflectiveOperationException {
+        ClassLoader classLoader = testClass.getClassLoader();
+        List<PhaseListener> listeners = new ArrayList<>();
+
+        if (slowestReport != null) {
+            listeners.add(slowestReport);
+        }
+        PhaseListener flightRecording = FlightRecording.listener(testClass);
+        if (flightRecording != null) {
+            listeners.add(flightRecording);
+        }
+        for (String className : System.getProperty("j8spec.junit.phase.listeners", "").split(",")) {
+            if (!className.trim().isEmpty()) {
+                listeners.add((PhaseListener) Class.forName(className.trim(), true, classLoader).newInstance());
+            }
+        }
+        ServiceLoader.load(PhaseListener.class, classLoader).forEach(listeners::add);
+
+        if (listeners.isEmpty()) {
+            return null;
+        }
+        if (listeners.size() == 1) {
+            return listeners.get(0);
+        }
+
+        return new PhaseListeners(listeners);
+    }
+
+    /*
+     * null when no listener is registered.
+     */
+    PhaseListener phaseListener() {
+        return phaseListener;
+    }
+
+    ForkJoinPool pool() {
+        return pool;
+    }
+
+    private ExampleIndex index() {
+        if (index == null) {
+            index = new ExampleIndex(examples, separator);
+        }
+        return index;
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        try {
+            super.run(notifier);
+        } finally {
+            J8Spec.finishRun(getTestClass().getJavaClass());
+        }
+        if (groupTimeline != null) {
+            groupTimeline.finish();
+        }
+        if (slowestReport != null) {
+            printSlowestReport();
+        }
+    }
+
+    private void printSlowestReport() {
+        String file = System.getProperty("j8spec.junit.slowest.file", "");
+        if (file.isEmpty()) {
+            slowestReport.print(specName, System.out);
+            return;
+        }
+
+        try (PrintStream out = new PrintStream(new FileOutputStream(file, true), false, "UTF-8")) {
+            slowestReport.print(specName, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -41,29 +207,105 @@ public final class J8SpecRunner extends ParentRunner<Example> {
 
     @Override
     protected Description describeChild(Example example) {
-        if (!descriptions.containsKey(example)) {
-            descriptions.put(
-                example,
-                createTestDescription(specName, buildChildName(example))
-            );
-        }
-        return descriptions.get(example);
+        return descriptions[example.position()];
     }
 
     private String buildChildName(Example example) {
-        String format = System.getProperty("j8spec.junit.description.format", "%1$s/%2$s");
-        String separator = System.getProperty("j8spec.junit.description.separator", "/");
-
-        List<String> containerDescriptions = tail(example.containerDescriptions());
-        if (containerDescriptions.isEmpty()) {
+        GroupPath groupPath = example.groupPath();
+        if (groupPath == null || groupPath.parent() == null) {
             return example.description();
         }
 
-        return String.format(format, String.join(separator, containerDescriptions), example.description());
+        String groupName = groupPath.joinedName(separator);
+        if (DEFAULT_DESCRIPTION_FORMAT.equals(format)) {
+            return groupName + "/" + example.description();
+        }
+        return String.format(format, groupName, example.description());
+    }
+
+    /*
+     * Filters created for a single method, as IDEs do to run one example, are answered through the index, so the
+     * given filter is evaluated only for the examples it can match. Either way the examples left are relinked, so
+     * example groups without examples left never run their hooks.
+     */
+    @Override
+    public void filter(Filter filter) throws NoTestsRemainException {
+        Set<Description> kept = new HashSet<>();
+
+        List<Example> candidates = candidatesFor(filter);
+        if (candidates == null) {
+            super.filter(new Filter() {
+                @Override
+                public boolean shouldRun(Description description) {
+                    boolean shouldRun = filter.shouldRun(description);
+                    if (shouldRun) {
+                        kept.add(description);
+                    }
+                    return shouldRun;
+                }
+
+                @Override
+                public String describe() {
+                    return filter.describe();
+                }
+            });
+
+            select(examples.stream()
+                .filter(example -> kept.contains(describeChild(example)))
+                .collect(toList()));
+        } else {
+            List<Example> selected = new ArrayList<>(candidates.size());
+            for (Example candidate : candidates) {
+                Description description = describeChild(candidate);
+                if (filter.shouldRun(description)) {
+                    kept.add(description);
+                    selected.add(candidate);
+                }
+            }
+            super.filter(new Filter() {
+                @Override
+                public boolean shouldRun(Description description) {
+                    return kept.contains(description);
+                }
+
+                @Override
+                public String describe() {
+                    return filter.describe();
+                }
+            });
+
+            Collections.sort(selected);
+            select(selected);
+        }
+    }
+
+    /*
+     * Relinking renumbers the selected examples, so their descriptions are moved to their new positions.
+     */
+    private void select(List<Example> selected) {
+        Description[] selectedDescriptions = new Description[selected.size()];
+        for (int i = 0; i < selectedDescriptions.length; i++) {
+            selectedDescriptions[i] = describeChild(selected.get(i));
+        }
+
+        examples = relink(selected);
+        descriptions = selectedDescriptions;
+        index = null;
     }
 
-    private List<String> tail(List<String> containerDescriptions) {
-        return containerDescriptions.subList(1, containerDescriptions.size());
+    private List<Example> candidatesFor(Filter filter) {
+        String method = filter.describe();
+        String suffix = "(" + specName + ")";
+
+        if (!DEFAULT_DESCRIPTION_FORMAT.equals(format)
+            || !method.startsWith(METHOD_FILTER_PREFIX)
+            || !method.endsWith(suffix)) {
+            return null;
+        }
+
+        return index().findByChildName(
+            method.substring(METHOD_FILTER_PREFIX.length(), method.length() - suffix.length())
+        );
     }
 
     @Override
@@ -73,6 +315,19 @@ public final class J8SpecRunner extends ParentRunner<Example> {
 
     @Override
     protected void runChild(Example example, RunNotifier notifier) {
+        if (phaseListener == null) {
+            runChild(example, example, notifier);
+            return;
+        }
+
+        if (groupTimeline == null) {
+            groupTimeline = new GroupTimeline(phaseListener);
+        }
+        groupTimeline.enter(example.groupPath());
+        runChild(example, () -> example.tryToExecute(phaseListener), notifier);
+    }
+
+    void runChild(Example example, UnsafeBlock block, RunNotifier notifier) {
         Description description = describeChild(example);
 
         if (isIgnored(example)) {
@@ -80,6 +335,30 @@ public final class J8SpecRunner extends ParentRunner<Example> {
             return;
         }
 
-        runLeaf(newStatement(example), description, notifier);
+        runLeaf(newStatement(example, block), description, notifier);
+    }
+
+    @Override
+    protected Statement childrenInvoker(RunNotifier notifier) {
+        if (!Boolean.valueOf(System.getProperty("j8spec.junit.parallel", "false"))) {
+            return super.childrenInvoker(notifier);
+        }
+
+        return new Statement() {
+            @Override
+            public void evaluate() {
+                ExampleGroupTask.execute(J8SpecRunner.this, filteredChildren(), notifier);
+            }
+        };
+    }
+
+    /*
+     * Children left by filters, in execution order.
+     */
+    private List<Example> filteredChildren() {
+        Set<Description> filtered = new HashSet<>(getDescription().getChildren());
+        return examples.stream()
+            .filter(example -> filtered.contains(describeChild(example)))
+            .collect(toList());
     }
 }
@@ -0,0 +1,75 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.GroupPath;
+import j8spec.PhaseListener;
+
+import java.util.List;
+
+/**
+ * Reports everything to all the given listeners, in order.
+ */
+final class PhaseListeners implements PhaseListener {
+
+    private final PhaseListener[] listeners;
+
+    PhaseListeners(List<PhaseListener> listeners) {
+        this.listeners = listeners.toArray(new PhaseListener[listeners.size()]);
+    }
+
+    @Override
+    public void phaseFinished(GroupPath containerPath, Example example, Phase phase, long durationNanos) {
+        for (PhaseListener listener : listeners) {
+            listener.phaseFinished(containerPath, example, phase, durationNanos);
+        }
+    }
+
+    @Override
+    public void hookStarted(GroupPath owner, Phase phase, int position, Example example) {
+        for (PhaseListener listener : listeners) {
+            listener.hookStarted(owner, phase, position, example);
+        }
+    }
+
+    @Override
+    public void hookFinished(
+        GroupPath owner,
+        Phase phase,
+        int position,
+        Example example,
+        Throwable failure,
+        long durationNanos
+    ) {
+        for (PhaseListener listener : listeners) {
+            listener.hookFinished(owner, phase, position, example, failure, durationNanos);
+        }
+    }
+
+    @Override
+    public void exampleStarted(GroupPath containerPath, Example example) {
+        for (PhaseListener listener : listeners) {
+            listener.exampleStarted(containerPath, example);
+        }
+    }
+
+    @Override
+    public void exampleFinished(GroupPath containerPath, Example example, Throwable failure, long durationNanos) {
+        for (PhaseListener listener : listeners) {
+            listener.exampleFinished(containerPath, example, failure, durationNanos);
+        }
+    }
+
+    @Override
+    public void groupStarted(GroupPath path) {
+        for (PhaseListener listener : listeners) {
+            listener.groupStarted(path);
+        }
+    }
+
+    @Override
+    public void groupFinished(GroupPath path, long durationNanos) {
+        for (PhaseListener listener : listeners) {
+            listener.groupFinished(path, durationNanos);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.GroupPath;
+import j8spec.PhaseListener;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import static java.util.Collections.reverseOrder;
+
+/**
+ * Keeps the slowest examples and the hooks that took the longest in total, as reported while the examples run.
+ *
+ * <p>
+ *     Examples are kept in a min-heap bounded by the size of the report, so memory does not grow with the number
+ *     of examples. Hooks are accumulated per example group and position, which is bounded by the size of the spec,
+ *     and ranked only when the report is printed.
+ * </p>
+ */
+final class SlowestReport implements PhaseListener {
+
+    private static final PhaseListener.Phase[] PHASES = PhaseListener.Phase.values();
+
+    private static final class ExampleTime {
+        final Example example;
+        final long nanos;
+
+        ExampleTime(Example example, long nanos) {
+            this.example = example;
+            this.nanos = nanos;
+        }
+    }
+
+    private static final class HookTime {
+        final GroupPath owner;
+        final PhaseListener.Phase phase;
+        final int position;
+        long nanos;
+        long executions;
+
+        HookTime(GroupPath owner, PhaseListener.Phase phase, int position) {
+            this.owner = owner;
+            this.phase = phase;
+            this.position = position;
+        }
+    }
+
+    private static final Comparator<ExampleTime> BY_EXAMPLE_TIME = Comparator.comparingLong(time -> time.nanos);
+    private static final Comparator<HookTime> BY_HOOK_TIME = Comparator.comparingLong(time -> time.nanos);
+
+    private final int size;
+    private final PriorityQueue<ExampleTime> examples;
+    private final Map<GroupPath, HookTime[][]> hooks = new IdentityHashMap<>();
+
+    SlowestReport(int size) {
+        this.size = size;
+        this.examples = new PriorityQueue<>(size, BY_EXAMPLE_TIME);
+    }
+
+    @Override
+    public void phaseFinished(GroupPath containerPath, Example example, Phase phase, long durationNanos) {}
+
+    @Override
+    public synchronized void hookFinished(
+        GroupPath owner,
+        Phase phase,
+        int position,
+        Example example,
+        Throwable failure,
+        long durationNanos
+    ) {
+        HookTime[][] hooksByPhase = hooks.computeIfAbsent(owner, path -> new HookTime[PHASES.length][0]);
+        HookTime[] hooksOfPhase = hooksByPhase[phase.ordinal()];
+        if (position >= hooksOfPhase.length) {
+            hooksOfPhase = Arrays.copyOf(hooksOfPhase, position + 1);
+            hooksByPhase[phase.ordinal()] = hooksOfPhase;
+        }
+
+        HookTime hook = hooksOfPhase[position];
+        if (hook == null) {
+            hook = new HookTime(owner, phase, position);
+            hooksOfPhase[position] = hook;
+        }
+        hook.nanos += durationNanos;
+        hook.executions++;
+    }
+
+    @Override
+    public synchronized void exampleFinished(
+        GroupPath containerPath,
+        Example example,
+        Throwable failure,
+        long durationNanos
+    ) {
+        if (examples.size() < size) {
+            examples.add(new ExampleTime(example, durationNanos));
+        } else if (examples.peek().nanos < durationNanos) {
+            examples.poll();
+            examples.add(new ExampleTime(example, durationNanos));
+        }
+    }
+
+    synchronized void print(String specName, PrintStream out) {
+        List<ExampleTime> slowestExamples = new ArrayList<>(examples);
+        slowestExamples.sort(reverseOrder(BY_EXAMPLE_TIME));
+
+        out.println("Slowest examples of " + specName + ":");
+        for (ExampleTime time : slowestExamples) {
+            out.println(format(time.nanos) + "  " + name(time.example));
+        }
+
+        out.println("Slowest hooks of " + specName + ":");
+        for (HookTime time : slowestHooks()) {
+            out.println(
+                format(time.nanos) + "  " + name(time.phase) + " #" + (time.position + 1) + " of " + name(time.owner)
+                    + " (" + time.executions + (time.executions == 1 ? " run)" : " runs)")
+            );
+        }
+    }
+
+    private List<HookTime> slowestHooks() {
+        PriorityQueue<HookTime> slowest = new PriorityQueue<>(size, BY_HOOK_TIME);
+        for (HookTime[][] hooksByPhase : hooks.values()) {
+            for (HookTime[] hooksOfPhase : hooksByPhase) {
+                for (HookTime hook : hooksOfPhase) {
+                    if (hook == null) {
+                        continue;
+                    }
+                    if (slowest.size() < size) {
+                        slowest.add(hook);
+                    } else if (slowest.peek().nanos < hook.nanos) {
+                        slowest.poll();
+                        slowest.add(hook);
+                    }
+                }
+            }
+        }
+
+        List<HookTime> result = new ArrayList<>(slowest);
+        result.sort(reverseOrder(BY_HOOK_TIME));
+        return result;
+    }
+
+    private static String format(long nanos) {
+        return String.format("%10.3f ms", nanos / 1_000_000.0);
+    }
+
+    private static String name(Example example) {
+        GroupPath path = example.groupPath();
+        if (path == null || path.parent() == null) {
+            return example.description();
+        }
+        return path.joinedName("/") + "/" + example.description();
+    }
+
+    private static String name(GroupPath path) {
+        if (path == null) {
+            return "unknown group";
+        }
+        if (path.parent() == null) {
+            return "spec";
+        }
+        return path.joinedName("/");
+    }
+
+    private static String name(PhaseListener.Phase phase) {
+        switch (phase) {
+            case BEFORE_ALL: return "beforeAll";
+            case BEFORE_EACH: return "beforeEach";
+            case AFTER_EACH: return "afterEach";
+            case AFTER_ALL: return "afterAll";
+            default: return phase.name();
+        }
+    }
+}
@@ -13,7 +13,9 @@ import static j8spec.UnsafeBlock.NOOP;
 import static j8spec.J8Spec.var;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.everyItem;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -151,6 +153,66 @@ public class ExampleBuilderTest {
         verify(innerAfterAll, times(1)).tryToExecute();
     }
 
+    @Test
+    public void builds_before_all_and_after_all_hooks_for_groups_with_many_examples() throws Throwable {
+        final int[] beforeAllCount = {0};
+        final int[] afterAllCount = {0};
+
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(groupConfig().description("SampleSpec").definedOrder().build())
+                .beforeAll(() -> beforeAllCount[0]++)
+                .afterAll(() -> afterAllCount[0]++);
+
+        for (int i = 0; i < 50_000; i++) {
+            builder.example(exampleConfig().description("block " + i).build(), NOOP);
+        }
+
+        execute(builder.endGroup());
+
+        assertThat(beforeAllCount[0], is(1));
+        assertThat(afterAllCount[0], is(1));
+    }
+
+    @Test
+    public void builds_every_example_of_groups_with_many_examples_in_random_order() {
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder.startGroup(groupConfig().description("SampleSpec").randomOrder().seed(0L).build());
+
+        for (int i = 0; i < 200_000; i++) {
+            builder.example(exampleConfig().description("block " + i).build(), NOOP);
+        }
+
+        builder.endGroup();
+        List<Example> examples = builder.build();
+
+        assertThat(examples.stream().map(Example::description).distinct().count(), is(200_000L));
+        assertThat(examples.stream().sorted().collect(toList()), is(examples));
+    }
+
+    @Test
+    public void groups_examples_of_the_same_group_together_in_random_order() {
+        ExampleBuilder builder = new ExampleBuilder(BLACK_LIST);
+        builder
+            .startGroup(groupConfig().description("SampleSpec").randomOrder().seed(0L).build())
+                .example(exampleConfig().description("block 1").build(), NOOP)
+                .startGroup(groupConfig().description("describe A").build())
+                    .example(exampleConfig().description("block A1").build(), NOOP)
+                    .example(exampleConfig().description("block A2").build(), NOOP)
+                    .example(exampleConfig().description("block A3").build(), NOOP)
+                .endGroup()
+                .example(exampleConfig().description("block 2").build(), NOOP)
+            .endGroup();
+        List<Example> examples = builder.build();
+
+        List<String> containers = examples.stream()
+            .map(example -> String.join("/", example.containerDescriptions()))
+            .collect(toList());
+        int first = containers.indexOf("SampleSpec/describe A");
+
+        assertThat(containers.subList(first, first + 3), everyItem(is("SampleSpec/describe A")));
+    }
+
     @Test
     public void builds_examples_marked_to_be_ignored() throws Throwable {
         UnsafeBlock ignored = mock(UnsafeBlock.class);
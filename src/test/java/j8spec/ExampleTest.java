@@ -21,14 +21,19 @@ public class ExampleTest {
     public void runs_before_hooks_and_then_block() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
-        new Example.Builder()
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addBeforeEachHook(() -> executionOrder.add("beforeEach"));
+        group.addBeforeAllHook(() -> executionOrder.add("beforeAll"));
+
+        Example example = new Example.Builder()
             .description("example")
-            .beforeEachHooks(singletonList(() -> executionOrder.add("beforeEach")))
-            .beforeAllHooks(singletonList(() -> executionOrder.add("beforeAll")))
+            .group(group)
             .block(() -> executionOrder.add("block"))
             .rank(new Rank(0))
-            .build()
-            .tryToExecute();
+            .build();
+        ExampleBuilder.link(singletonList(example));
+
+        example.tryToExecute();
 
         assertThat(executionOrder, is(asList(
             "beforeAll",
@@ -41,14 +46,19 @@ public class ExampleTest {
     public void runs_block_and_then_after_hooks() throws Throwable {
         final List<String> executionOrder = new ArrayList<>();
 
-        new Example.Builder()
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addAfterAllHook(() -> executionOrder.add("afterAll"));
+        group.addAfterEachHook(() -> executionOrder.add("afterEach"));
+
+        Example example = new Example.Builder()
             .description("example")
-            .afterAllHooks(singletonList(() -> executionOrder.add("afterAll")))
-            .afterEachHooks(singletonList(() -> executionOrder.add("afterEach")))
+            .group(group)
             .block(() -> executionOrder.add("block"))
             .rank(new Rank(0))
-            .build()
-            .tryToExecute();
+            .build();
+        ExampleBuilder.link(singletonList(example));
+
+        example.tryToExecute();
 
         assertThat(executionOrder, is(asList(
             "block",
@@ -61,21 +71,24 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addBeforeAllHook(beforeAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
+        ExampleBuilder.link(asList(example1, example2));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -87,28 +100,32 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once_when_hook_is_not_shared_with_the_previous_example() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup root = new ExampleGroup(null, false);
+        ExampleGroup group = new ExampleGroup(root, false);
+        group.addBeforeAllHook(beforeAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(new ExampleGroup(root, false))
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
             .description("example 3")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
-        example3.previous(example2);
+        ExampleBuilder.link(asList(example1, example2, example3));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -121,20 +138,25 @@ public class ExampleTest {
     public void runs_before_all_hooks_only_once_when_first_example_has_no_hook() throws Throwable {
         UnsafeBlock beforeAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup root = new ExampleGroup(null, false);
+        ExampleGroup group = new ExampleGroup(root, false);
+        group.addBeforeAllHook(beforeAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
+            .group(root)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
+        ExampleBuilder.link(asList(example1, example2));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -146,21 +168,24 @@ public class ExampleTest {
     public void runs_after_all_hooks_only_once() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addAfterAllHook(afterAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
+        ExampleBuilder.link(asList(example1, example2));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -172,28 +197,32 @@ public class ExampleTest {
     public void runs_after_all_hooks_only_once_when_hook_is_not_shared_with_the_next_example() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup root = new ExampleGroup(null, false);
+        ExampleGroup group = new ExampleGroup(root, false);
+        group.addAfterAllHook(afterAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(new ExampleGroup(root, false))
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example3 = new Example.Builder()
             .description("example 2")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
-        example2.next(example3);
+        ExampleBuilder.link(asList(example1, example2, example3));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -206,20 +235,25 @@ public class ExampleTest {
     public void runs_after_all_hooks_only_once_when_last_example_has_no_hook() throws Throwable {
         UnsafeBlock afterAllHook = mock(UnsafeBlock.class);
 
+        ExampleGroup root = new ExampleGroup(null, false);
+        ExampleGroup group = new ExampleGroup(root, false);
+        group.addAfterAllHook(afterAllHook);
+
         Example example1 = new Example.Builder()
             .description("example 1")
-            .afterAllHooks(singletonList(afterAllHook))
+            .group(group)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
+            .group(root)
             .block(NOOP)
             .rank(new Rank(0))
             .build();
 
-        example1.next(example2);
+        ExampleBuilder.link(asList(example1, example2));
 
         example1.tryToExecute();
         example2.tryToExecute();
@@ -227,21 +261,61 @@ public class ExampleTest {
         verify(afterAllHook, times(1)).tryToExecute();
     }
 
+    @Test
+    public void runs_hooks_of_enclosing_groups_in_order() throws Throwable {
+        final List<String> executionOrder = new ArrayList<>();
+
+        ExampleGroup outer = new ExampleGroup(null, false);
+        outer.addBeforeAllHook(() -> executionOrder.add("outer beforeAll"));
+        outer.addBeforeEachHook(() -> executionOrder.add("outer beforeEach"));
+        outer.addAfterEachHook(() -> executionOrder.add("outer afterEach"));
+        outer.addAfterAllHook(() -> executionOrder.add("outer afterAll"));
+
+        ExampleGroup inner = new ExampleGroup(outer, false);
+        inner.addBeforeAllHook(() -> executionOrder.add("inner beforeAll"));
+        inner.addBeforeEachHook(() -> executionOrder.add("inner beforeEach"));
+        inner.addAfterEachHook(() -> executionOrder.add("inner afterEach"));
+        inner.addAfterAllHook(() -> executionOrder.add("inner afterAll"));
+
+        Example example = new Example.Builder()
+            .description("example")
+            .group(inner)
+            .block(() -> executionOrder.add("block"))
+            .rank(new Rank(0))
+            .build();
+
+        ExampleBuilder.link(singletonList(example));
+
+        example.tryToExecute();
+
+        assertThat(executionOrder, is(asList(
+            "outer beforeAll",
+            "inner beforeAll",
+            "outer beforeEach",
+            "inner beforeEach",
+            "block",
+            "inner afterEach",
+            "outer afterEach",
+            "inner afterAll",
+            "outer afterAll"
+        )));
+    }
+
     @Test(expected = Exceptions.MultipleFailures.class)
     public void collects_exceptions_from_block_and_after_hooks() throws Throwable {
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addAfterEachHook(() -> { throw new Exception("after each 1"); });
+        group.addAfterEachHook(() -> { throw new Exception("after each 2"); });
+        group.addAfterAllHook(() -> { throw new Exception("after all 1"); });
+        group.addAfterAllHook(() -> { throw new Exception("after all 2"); });
+
         Example example = new Example.Builder()
             .description("example 1")
-            .afterEachHooks(asList(
-                () -> { throw new Exception("after each 1"); },
-                () -> { throw new Exception("after each 2"); }
-            ))
-            .afterAllHooks(asList(
-                () -> { throw new Exception("after all 1"); },
-                () -> { throw new Exception("after all 2"); }
-            ))
+            .group(group)
             .block(() -> { throw new Exception("block"); })
             .rank(new Rank(0))
             .build();
+        ExampleBuilder.link(singletonList(example));
 
         try {
             example.tryToExecute();
@@ -282,29 +356,59 @@ public class ExampleTest {
 
     @Test
     public void indicates_if_example_should_be_ignored_when_before_all_hook_fails() throws Throwable {
-        UnsafeBlock beforeAllHook = () -> { throw new Exception(); };
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addBeforeAllHook(() -> { throw new Exception(); });
 
         Example example1 = new Example.Builder()
             .description("example 1")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(() -> {})
             .rank(new Rank(0))
             .build();
 
         Example example2 = new Example.Builder()
             .description("example 2")
-            .beforeAllHooks(singletonList(beforeAllHook))
+            .group(group)
             .block(() -> {})
             .rank(new Rank(0))
             .build();
 
-        example2.previous(example1);
+        ExampleBuilder.link(asList(example1, example2));
 
         try { example1.tryToExecute(); } catch (Throwable ignored) {}
 
         assertThat(example2.shouldBeIgnored(), is(true));
     }
 
+    @Test
+    public void indicates_if_example_should_not_be_ignored_when_before_all_hook_fails_in_a_later_example()
+        throws Throwable {
+        ExampleGroup root = new ExampleGroup(null, false);
+        ExampleGroup group = new ExampleGroup(root, false);
+        group.addBeforeAllHook(() -> { throw new Exception(); });
+
+        Example example1 = new Example.Builder()
+            .description("example 1")
+            .group(root)
+            .block(() -> {})
+            .rank(new Rank(0))
+            .build();
+
+        Example example2 = new Example.Builder()
+            .description("example 2")
+            .group(group)
+            .block(() -> {})
+            .rank(new Rank(1))
+            .build();
+
+        ExampleBuilder.link(asList(example1, example2));
+
+        try { example2.tryToExecute(); } catch (Throwable ignored) {}
+
+        assertThat(example1.shouldBeIgnored(), is(false));
+        assertThat(example2.shouldBeIgnored(), is(true));
+    }
+
     @Test
     public void indicates_if_example_should_not_be_ignored() {
         Example example = new Example.Builder()
@@ -349,13 +453,13 @@ public class ExampleTest {
         Var<String> stringVar = var();
         Var<Integer> integerVar = var();
 
-        List<VarInitializer<?>> vars = new LinkedList<>();
-        vars.add(new VarInitializer<>(stringVar, () -> "value"));
-        vars.add(new VarInitializer<>(integerVar, () -> 123));
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addVarInitializer(new VarInitializer<>(stringVar, () -> "value"));
+        group.addVarInitializer(new VarInitializer<>(integerVar, () -> 123));
 
         new Example.Builder()
             .description("example")
-            .varInitializers(vars)
+            .group(group)
             .block(() -> {
                 values.add(var(stringVar));
                 values.add(var(integerVar));
@@ -368,4 +472,112 @@ public class ExampleTest {
             123
         )));
     }
+
+    @Test
+    public void reports_each_phase_to_the_listener_in_execution_order() throws Throwable {
+        List<String> phases = new ArrayList<>();
+
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addBeforeAllHook(NOOP);
+        group.addBeforeEachHook(NOOP);
+        group.addAfterEachHook(NOOP);
+        group.addAfterAllHook(NOOP);
+        GroupPath path = new GroupPath(null, "spec");
+
+        Example example = new Example.Builder()
+            .description("example")
+            .groupPath(path)
+            .group(group)
+            .block(() -> Thread.sleep(10))
+            .rank(new Rank(0))
+            .build();
+        ExampleBuilder.link(singletonList(example));
+
+        example.tryToExecute((containerPath, reported, phase, durationNanos) -> {
+            assertThat(containerPath, is(sameInstance(path)));
+            assertThat(reported, is(sameInstance(example)));
+            if (phase == PhaseListener.Phase.BODY) {
+                assertThat(durationNanos >= 10_000_000, is(true));
+            }
+            phases.add(phase.name());
+        });
+
+        assertThat(phases, is(asList(
+            "VAR_INITIALIZERS",
+            "BEFORE_ALL",
+            "BEFORE_EACH",
+            "BODY",
+            "AFTER_EACH",
+            "AFTER_ALL"
+        )));
+    }
+
+    @Test
+    public void does_not_report_phases_that_are_not_reached() throws Throwable {
+        List<String> phases = new ArrayList<>();
+
+        ExampleGroup group = new ExampleGroup(null, false);
+        group.addBeforeEachHook(() -> { throw new RuntimeException("before each"); });
+
+        try {
+            new Example.Builder()
+                .description("example")
+                .group(group)
+                .block(NOOP)
+                .rank(new Rank(0))
+                .build()
+                .tryToExecute((containerPath, example, phase, durationNanos) -> phases.add(phase.name()));
+        } catch (RuntimeException e) {
+            assertThat(phases, is(asList("VAR_INITIALIZERS", "BEFORE_EACH")));
+            return;
+        }
+        throw new AssertionError("example executed without failing");
+    }
+
+    @Test
+    public void reports_each_hook_with_its_group_and_position() throws Throwable {
+        List<String> hooks = new ArrayList<>();
+
+        GroupPath outerPath = new GroupPath(null, "spec");
+        GroupPath innerPath = new GroupPath(outerPath, "A");
+        ExampleGroup outer = new ExampleGroup(outerPath, null, false);
+        outer.addBeforeEachHook(NOOP);
+        ExampleGroup inner = new ExampleGroup(innerPath, outer, false);
+        inner.addBeforeEachHook(NOOP);
+        inner.addBeforeEachHook(NOOP);
+        inner.addAfterAllHook(NOOP);
+
+        Example example = new Example.Builder()
+            .description("example")
+            .groupPath(innerPath)
+            .group(inner)
+            .block(NOOP)
+            .rank(new Rank(0))
+            .build();
+        ExampleBuilder.link(singletonList(example));
+
+        example.tryToExecute(new PhaseListener() {
+            @Override
+            public void phaseFinished(GroupPath containerPath, Example example, Phase phase, long durationNanos) {}
+
+            @Override
+            public void hookFinished(
+                GroupPath owner,
+                Phase phase,
+                int position,
+                Example example,
+                Throwable failure,
+                long durationNanos
+            ) {
+                hooks.add(owner.description() + " " + phase + " " + position);
+            }
+        });
+
+        assertThat(hooks, is(asList(
+            "spec BEFORE_EACH 0",
+            "A BEFORE_EACH 0",
+            "A BEFORE_EACH 1",
+            "A AFTER_ALL 0"
+        )));
+    }
 }
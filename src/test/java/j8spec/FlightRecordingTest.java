@@ -0,0 +1,107 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import j8spec.junit.J8SpecRunner;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.junit.runner.notification.RunNotifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FlightRecordingTest {
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        beforeEach(() -> {});
+        it("block 1", () -> {});
+        describe("describe A", () -> {
+            it("block A.1", () -> {});
+            it("block A.2", () -> { throw new IllegalStateException("block A.2"); });
+        });
+    }}
+
+    @DefinedOrder
+    public static class PassingSpec {{
+        it("block 1", () -> {});
+        describe("describe A", () -> it("block A.1", () -> {}));
+    }}
+
+    @Test
+    public void emits_events_for_spec_read_groups_hooks_and_examples() throws Exception {
+        Path file = Files.createTempFile("j8spec", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("j8spec.SpecRead");
+            recording.enable("j8spec.Group");
+            recording.enable("j8spec.Hook");
+            recording.enable("j8spec.Example");
+            recording.start();
+
+            new J8SpecRunner(SampleSpec.class).run(new RunNotifier());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertThat(values(events, "j8spec.SpecRead", "specClass"), is(asList(SampleSpec.class.getName())));
+        assertThat(values(events, "j8spec.Group", "path"), is(asList(
+            SampleSpec.class.getName() + "/describe A",
+            SampleSpec.class.getName()
+        )));
+        assertThat(values(events, "j8spec.Group", "outcome"), is(asList("failed", "failed")));
+        assertThat(values(events, "j8spec.Group", "failure"), is(asList(
+            "java.lang.IllegalStateException: block A.2",
+            "java.lang.IllegalStateException: block A.2"
+        )));
+        assertThat(values(events, "j8spec.Hook", "example"), is(asList("block 1", "block A.1", "block A.2")));
+        assertThat(values(events, "j8spec.Example", "description"), is(asList("block 1", "block A.1", "block A.2")));
+        assertThat(values(events, "j8spec.Example", "outcome"), is(asList("passed", "passed", "failed")));
+    }
+
+    @Test
+    public void records_passed_groups_when_none_of_their_examples_fail() throws Exception {
+        Path file = Files.createTempFile("j8spec", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("j8spec.Group");
+            recording.start();
+
+            new J8SpecRunner(PassingSpec.class).run(new RunNotifier());
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        assertThat(values(events, "j8spec.Group", "outcome"), is(asList("passed", "passed")));
+        assertThat(values(events, "j8spec.Group", "failure"), is(asList("null", "null")));
+    }
+
+    private static List<String> values(List<RecordedEvent> events, String eventName, String field) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .sorted((a, b) -> a.getEndTime().compareTo(b.getEndTime()))
+            .map(event -> {
+                Object value = event.getValue(field);
+                return value instanceof jdk.jfr.consumer.RecordedClass
+                    ? ((jdk.jfr.consumer.RecordedClass) value).getName()
+                    : String.valueOf(value);
+            })
+            .collect(toList());
+    }
+}
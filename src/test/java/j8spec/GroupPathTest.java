@@ -0,0 +1,41 @@
+package j8spec;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class GroupPathTest {
+
+    private final GroupPath spec = new GroupPath(null, "spec");
+    private final GroupPath groupA = new GroupPath(spec, "A");
+    private final GroupPath groupAB = new GroupPath(groupA, "B");
+
+    @Test
+    public void lists_descriptions_from_the_spec_down_to_the_group() {
+        assertThat(spec.descriptions(), is(singletonList("spec")));
+        assertThat(groupA.descriptions(), is(asList("spec", "A")));
+        assertThat(groupAB.descriptions(), is(asList("spec", "A", "B")));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void does_not_allow_descriptions_to_be_modified() {
+        groupA.descriptions().set(0, "other");
+    }
+
+    @Test
+    public void joins_descriptions_leaving_the_spec_out() {
+        assertThat(spec.joinedName("/"), is(""));
+        assertThat(groupA.joinedName("/"), is("A"));
+        assertThat(groupAB.joinedName("/"), is("A/B"));
+    }
+
+    @Test
+    public void joins_descriptions_again_when_separator_changes() {
+        assertThat(groupAB.joinedName("/"), is("A/B"));
+        assertThat(groupAB.joinedName(" "), is("A B"));
+        assertThat(groupAB.joinedName("/"), is("A/B"));
+    }
+}
@@ -0,0 +1,181 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.fdescribe;
+import static j8spec.J8Spec.fit;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecLazyReadTest {
+
+    private static List<String> log;
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        it("block 1", () -> {});
+
+        describe("describe A", () -> {
+            log.add("describe A");
+            it("block A.1", () -> {});
+
+            describe("describe A.A", () -> {
+                log.add("describe A.A");
+                it("block A.A.1", () -> {});
+            });
+        });
+
+        describe("describe B", () -> {
+            log.add("describe B");
+            it("block B.1", () -> {});
+        });
+    }}
+
+    @DefinedOrder
+    public static class FocusedSpec {{
+        describe("describe A", () -> {
+            log.add("describe A");
+            it("block A.1", () -> {});
+            fit("block A.2", () -> {});
+        });
+
+        describe("describe B", () -> {
+            log.add("describe B");
+            it("block B.1", () -> {});
+        });
+    }}
+
+    @DefinedOrder
+    public static class FocusedGroupSpec {{
+        describe("describe A", () -> {
+            log.add("describe A");
+            it("block A.1", () -> {});
+        });
+
+        fdescribe("describe B", () -> {
+            log.add("describe B");
+            it("block B.1", () -> {});
+        });
+    }}
+
+    @Before
+    public void resetLog() {
+        log = new ArrayList<>();
+        System.setProperty("j8spec.read.lazy", "true");
+    }
+
+    @After
+    public void clearProperties() {
+        System.clearProperty("j8spec.read.lazy");
+        System.clearProperty("j8spec.filter");
+        System.clearProperty("j8spec.junit.description.separator");
+    }
+
+    @Test
+    public void executes_the_bodies_of_all_groups_without_filter() {
+        read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe A", "describe A.A", "describe B")));
+    }
+
+    @Test
+    public void executes_the_bodies_of_all_groups_when_not_lazy() {
+        System.clearProperty("j8spec.read.lazy");
+        System.setProperty("j8spec.filter", "describe B");
+
+        read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe A", "describe A.A", "describe B")));
+    }
+
+    @Test
+    public void does_not_execute_the_bodies_of_groups_outside_the_filter() {
+        System.setProperty("j8spec.filter", "describe B");
+
+        List<Example> examples = read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe B")));
+        assertThat(descriptions(examples), is(asList("block 1", "block B.1")));
+    }
+
+    @Test
+    public void executes_the_bodies_of_enclosing_and_inner_groups() {
+        System.setProperty("j8spec.filter", "describe A");
+
+        read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe A", "describe A.A")));
+    }
+
+    @Test
+    public void executes_only_the_enclosing_groups_of_an_inner_group() {
+        System.setProperty("j8spec.junit.description.separator", " > ");
+        System.setProperty("j8spec.filter", "describe A > describe A.A");
+
+        read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe A", "describe A.A")));
+    }
+
+    @Test
+    public void executes_the_body_of_the_group_of_a_selected_example() {
+        System.setProperty("j8spec.filter", "describe B/block B.1");
+
+        read(SampleSpec.class);
+
+        assertThat(log, is(asList("describe B")));
+    }
+
+    @Test
+    public void detects_focus_inside_selected_groups() {
+        System.setProperty("j8spec.filter", "describe A");
+
+        List<Example> examples = read(FocusedSpec.class);
+
+        assertThat(log, is(asList("describe A")));
+        assertThat(ignored(examples), is(asList(true, false)));
+    }
+
+    @Test
+    public void ignores_focused_groups_outside_the_filter() {
+        System.setProperty("j8spec.filter", "describe A");
+
+        List<Example> examples = read(FocusedGroupSpec.class);
+
+        assertThat(log, is(asList("describe A")));
+        assertThat(ignored(examples), is(asList(false)));
+    }
+
+    @Test
+    public void selects_the_same_examples_whether_reading_lazily_or_not() {
+        System.setProperty("j8spec.filter", "describe B");
+
+        List<Example> lazily = read(FocusedSpec.class);
+        System.clearProperty("j8spec.read.lazy");
+        List<Example> eagerly = read(FocusedSpec.class);
+
+        assertThat(descriptions(lazily), is(asList("block B.1")));
+        assertThat(ignored(lazily), is(asList(false)));
+        assertThat(descriptions(eagerly), is(asList("block A.1", "block A.2", "block B.1")));
+        assertThat(ignored(eagerly).get(2), is(false));
+    }
+
+    private static List<String> descriptions(List<Example> examples) {
+        return examples.stream().map(Example::description).collect(toList());
+    }
+
+    private static List<Boolean> ignored(List<Example> examples) {
+        return examples.stream().map(Example::shouldBeIgnored).collect(toList());
+    }
+}
@@ -1,5 +1,6 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -7,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
@@ -30,7 +32,40 @@ public class J8SpecLetTest {
         let(v1, () -> "value 2");
     }}
 
+    @DefinedOrder
+    static class ScopedSpec {{
+        Var<String> perExample = var();
+        Var<String> perGroup = var();
+        Var<String> unread = var();
+
+        let(perExample, VarScope.EXAMPLE, () -> {
+            log.add("init per example");
+            return "per example";
+        });
+        let(perGroup, VarScope.GROUP, () -> {
+            log.add("init per group");
+            return "per group";
+        });
+        let(unread, () -> {
+            log.add("init unread");
+            return "unread";
+        });
+
+        it("block 1", () -> log.add(var(perExample) + ", " + var(perGroup)));
+        it("block 2", () -> log.add(var(perExample) + ", " + var(perGroup)));
+        it("block 3", () -> log.add(var(perExample)));
+    }}
+
+    static class RunScopedSpec {{
+        Var<Integer> v1 = var();
+
+        let(v1, VarScope.RUN, () -> ++runScopedInitializations);
+
+        it("block 1", () -> log.add("value " + var(v1)));
+    }}
+
     private static List<String> log;
+    private static int runScopedInitializations;
 
     @Before
     public void resetLog() throws Throwable {
@@ -50,6 +85,29 @@ public class J8SpecLetTest {
         let(var, () -> "value");
     }
 
+    @Test
+    public void initializes_variables_only_when_read_according_to_their_scope() throws Throwable {
+        executeSpec(ScopedSpec.class);
+
+        assertThat(log, is(asList(
+            "init per example",
+            "init per group",
+            "per example, per group",
+            "init per example",
+            "per example, per group",
+            "init per example",
+            "per example"
+        )));
+    }
+
+    @Test
+    public void keeps_run_scoped_values_across_reads() throws Throwable {
+        executeSpec(RunScopedSpec.class);
+        executeSpec(RunScopedSpec.class);
+
+        assertThat(log, is(asList("value 1", "value 1")));
+    }
+
     @Test(expected = Exceptions.VariableInitializerAlreadyDefined.class)
     public void does_not_allow_var_initializer_to_be_replaced() {
         read(VarInitializerOverwrittenSpec.class);
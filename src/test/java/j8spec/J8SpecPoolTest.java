@@ -0,0 +1,161 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class J8SpecPoolTest {
+
+    private static List<String> log;
+    private static Set<Object> instances;
+    private static AtomicInteger leased;
+    private static AtomicInteger maxLeased;
+
+    @DefinedOrder
+    static class SampleSpec {{
+        Var<StringBuilder> buffer = var();
+
+        pool(buffer, 1, () -> {
+            log.add("create");
+            return new StringBuilder();
+        }, value -> {
+            log.add("reset '" + value + "'");
+            value.setLength(0);
+        });
+
+        afterEach(() -> log.add("after each"));
+
+        it("block 1", () -> var(buffer).append("block 1"));
+        it("block 2", () -> log.add("unused"));
+        it("block 3", () -> var(buffer).append("block 3"));
+    }}
+
+    static class ConcurrentSpec {{
+        Var<Object> fixture = var();
+
+        pool(fixture, 2, Object::new, value -> {});
+
+        for (int i = 1; i <= 6; i++) {
+            it("block " + i, () -> {
+                Object value = var(fixture);
+                maxLeased.accumulateAndGet(leased.incrementAndGet(), Math::max);
+                synchronized (instances) {
+                    instances.add(value);
+                }
+                Thread.sleep(20);
+                leased.decrementAndGet();
+            });
+        }
+    }}
+
+    @DefinedOrder
+    static class FailingResetSpec {{
+        Var<Object> fixture = var();
+
+        pool(fixture, 1, () -> {
+            log.add("create");
+            return new Object();
+        }, value -> {
+            throw new Exception("reset failed");
+        });
+
+        it("block 1", () -> var(fixture));
+        it("block 2", () -> var(fixture));
+    }}
+
+    static class InvalidSizeSpec {{
+        pool(var(), 0, Object::new, value -> {});
+    }}
+
+    @Before
+    public void reset() {
+        log = new ArrayList<>();
+        instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        leased = new AtomicInteger();
+        maxLeased = new AtomicInteger();
+    }
+
+    @Test
+    public void lends_and_resets_the_same_instance_to_examples_that_read_it() throws Throwable {
+        for (Example example : read(SampleSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "create",
+            "after each",
+            "reset 'block 1'",
+            "unused",
+            "after each",
+            "after each",
+            "reset 'block 3'"
+        )));
+    }
+
+    @Test
+    public void never_lends_more_instances_than_the_size_of_the_pool() throws Exception {
+        List<Example> examples = read(ConcurrentSpec.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(examples.size());
+        try {
+            List<Future<?>> executions = new ArrayList<>();
+            for (Example example : examples) {
+                executions.add(executor.submit(() -> {
+                    try {
+                        example.tryToExecuteWithinGroup();
+                    } catch (Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                }));
+            }
+            for (Future<?> execution : executions) {
+                execution.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(maxLeased.get() <= 2, is(true));
+        assertThat(instances.size() <= 2, is(true));
+    }
+
+    @Test
+    public void discards_instances_that_fail_to_be_reset() throws Throwable {
+        for (Example example : read(FailingResetSpec.class)) {
+            try {
+                example.tryToExecute();
+                fail("expected the reset to fail");
+            } catch (Exception e) {
+                assertThat(e.getMessage(), is("reset failed"));
+            }
+        }
+
+        assertThat(log, is(asList("create", "create")));
+    }
+
+    @Test
+    public void does_not_allow_empty_pools() {
+        try {
+            read(InvalidSizeSpec.class);
+            fail("expected the spec not to be read");
+        } catch (Exceptions.SpecInitializationFailed e) {
+            assertThat(e.getCause() instanceof IllegalArgumentException, is(true));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static j8spec.UnsafeBlock.NOOP;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecReadCacheTest {
+
+    private static int cachedSpecInstances;
+    private static int uncachedSpecInstances;
+    private static int executions;
+
+    @DefinedOrder
+    static class CachedSpec {{
+        cachedSpecInstances++;
+
+        beforeAll(() -> executions++);
+
+        describe("describe A", () -> {
+            it("block A.1", NOOP);
+            it("block A.2", NOOP);
+        });
+    }}
+
+    static class UncachedSpec {{
+        uncachedSpecInstances++;
+        it("block 1", NOOP);
+    }}
+
+    static class FailedSpec {{
+        it("block 1", NOOP);
+        it("block 1", NOOP);
+    }}
+
+    @Before
+    public void enableCache() {
+        System.setProperty("j8spec.read.cache", "true");
+    }
+
+    @After
+    public void disableCache() {
+        System.setProperty("j8spec.read.cache", "false");
+    }
+
+    @Test
+    public void instantiates_spec_class_only_once_when_cache_is_enabled() {
+        read(CachedSpec.class);
+        read(CachedSpec.class);
+
+        assertThat(cachedSpecInstances, is(1));
+    }
+
+    @Test
+    public void instantiates_spec_class_on_every_read_when_cache_is_disabled() {
+        disableCache();
+
+        read(UncachedSpec.class);
+        read(UncachedSpec.class);
+
+        assertThat(uncachedSpecInstances, is(2));
+    }
+
+    @Test
+    public void builds_new_examples_on_every_read() throws Throwable {
+        executions = 0;
+        List<Example> firstRead = read(CachedSpec.class);
+        List<Example> secondRead = read(CachedSpec.class);
+
+        assertThat(secondRead.size(), is(firstRead.size()));
+        assertThat(secondRead.get(0), is(not(sameInstance(firstRead.get(0)))));
+        assertThat(secondRead.get(0).description(), is(firstRead.get(0).description()));
+
+        for (Example example : firstRead) {
+            example.tryToExecute();
+        }
+        for (Example example : secondRead) {
+            example.tryToExecute();
+        }
+
+        assertThat(executions, is(2));
+    }
+
+    @Test
+    public void does_not_cache_specs_that_fail_to_be_read() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                read(FailedSpec.class);
+            } catch (Exceptions.BlockAlreadyDefined e) {
+                continue;
+            }
+            throw new AssertionError("spec read twice without failing");
+        }
+    }
+}
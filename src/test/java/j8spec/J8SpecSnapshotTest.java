@@ -0,0 +1,71 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecSnapshotTest {
+
+    private static List<String> log;
+
+    @DefinedOrder
+    static class SampleSpec {{
+        Var<List<String>> items = var();
+
+        snapshot(items, () -> {
+            log.add("build");
+            return new ArrayList<>(asList("original"));
+        }, ArrayList::new);
+
+        beforeAll(() -> log.add("before all"));
+
+        beforeEach(() -> {
+            log.add("before each");
+            var(items).add("before each");
+        });
+
+        it("block 1", () -> {
+            var(items).add("block 1");
+            log.add(var(items).toString());
+        });
+
+        it("block 2", () -> log.add(var(items).toString()));
+
+        describe("group A", () -> {
+            beforeEach(() -> var(items).add("group A"));
+
+            it("block A.1", () -> log.add(var(items).toString()));
+        });
+    }}
+
+    @Before
+    public void resetLog() {
+        log = new ArrayList<>();
+    }
+
+    @Test
+    public void builds_the_value_once_and_hands_a_copy_to_each_example() throws Throwable {
+        for (Example example : read(SampleSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "before all",
+            "before each",
+            "build",
+            "[original, before each, block 1]",
+            "before each",
+            "[original, before each]",
+            "before each",
+            "[original, before each, group A]"
+        )));
+    }
+}
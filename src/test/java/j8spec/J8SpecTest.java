@@ -1,14 +1,26 @@
 package j8spec;
 
 import j8spec.annotation.DefinedOrder;
+import j8spec.annotation.RandomOrder;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static j8spec.J8Spec.*;
 import static j8spec.UnsafeBlock.NOOP;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.CoreMatchers.*;
 import static org.junit.Assert.assertThat;
 
@@ -56,6 +68,69 @@ public class J8SpecTest {
         it("block 1", c -> c.expected(Exception.class), UnsafeBlock.NOOP);
     }}
 
+    private static final CountDownLatch specsBeingRead = new CountDownLatch(2);
+
+    static class WaitsForAnotherSpecSpec {{
+        describe("waits for another spec being read", () -> {
+            awaitAnotherSpec();
+            it("block", UnsafeBlock.NOOP);
+        });
+    }}
+
+    static class AlsoWaitsForAnotherSpecSpec {{
+        describe("waits for another spec being read", () -> {
+            awaitAnotherSpec();
+            it("block", UnsafeBlock.NOOP);
+        });
+    }}
+
+    @DefinedOrder
+    static class ReadsAnotherSpecSpec {{
+        it("block 1", UnsafeBlock.NOOP);
+        read(SampleSpec.class);
+        it("block 2", UnsafeBlock.NOOP);
+    }}
+
+    private static void awaitAnotherSpec() {
+        specsBeingRead.countDown();
+        try {
+            if (!specsBeingRead.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("specs were not read at the same time");
+            }
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<String> hookLog;
+
+    @RandomOrder(seed = 0)
+    static class NestedRandomOrderSpec {{
+        beforeAll(() -> hookLog.add("before all"));
+        afterAll(() -> hookLog.add("after all"));
+
+        it("block 1", () -> {});
+        it("block 2", () -> {});
+
+        describe("describe A", () -> {
+            beforeAll(() -> hookLog.add("before all A"));
+            afterAll(() -> hookLog.add("after all A"));
+
+            it("block A.1", () -> {});
+            xit("block A.2", () -> {});
+
+            describe("describe A.A", () -> {
+                it("block A.A.1", () -> {});
+                it("block A.A.2", () -> {});
+            });
+        });
+
+        xdescribe("describe B", () -> {
+            beforeAll(() -> hookLog.add("before all B"));
+            it("block B.1", () -> {});
+        });
+    }}
+
     @DefinedOrder
     static class SampleSpec {{
         it("block 1", UnsafeBlock.NOOP);
@@ -199,4 +274,111 @@ public class J8SpecTest {
         assertThat(var(sleepExamples).size(), is(1));
         assertThat(var(sleepExamples).get(0).description(), is("block"));
     }
+
+    @Test
+    public void allows_multiple_threads_to_read_specs_at_the_same_time() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<Example>> examples = executor.submit(() -> read(WaitsForAnotherSpecSpec.class));
+            Future<List<Example>> otherExamples = executor.submit(() -> read(AlsoWaitsForAnotherSpecSpec.class));
+
+            assertThat(examples.get().size(), is(1));
+            assertThat(otherExamples.get().size(), is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void builds_the_same_examples_when_many_threads_read_specs_concurrently() throws Exception {
+        List<String> expected = descriptions(read(SampleSpec.class));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<List<Example>>> reads = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                reads.add(() -> read(SampleSpec.class));
+            }
+
+            for (Future<List<Example>> examples : executor.invokeAll(reads)) {
+                assertThat(descriptions(examples.get()), is(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> descriptions(List<Example> examples) {
+        return examples.stream().map(Example::description).collect(toList());
+    }
+
+    @Test
+    public void reads_all_specs_keyed_by_class() {
+        Map<Class<?>, List<Example>> examples = readAll(asList(SampleSpec.class, EmptySpec.class));
+
+        assertThat(new ArrayList<>(examples.keySet()), is(asList(SampleSpec.class, EmptySpec.class)));
+        assertThat(descriptions(examples.get(SampleSpec.class)), is(descriptions(read(SampleSpec.class))));
+        assertThat(examples.get(EmptySpec.class), is(Collections.<Example>emptyList()));
+    }
+
+    @Test
+    public void reads_all_specs_even_when_some_of_them_fail() {
+        try {
+            readAll(asList(BadSpec.class, SampleSpec.class, ExampleOverwrittenSpec.class));
+        } catch (Exceptions.SpecsReadFailed e) {
+            assertThat(new ArrayList<>(e.examples().keySet()), is(singletonList(SampleSpec.class)));
+            assertThat(
+                new ArrayList<>(e.failures().keySet()),
+                is(asList(BadSpec.class, ExampleOverwrittenSpec.class))
+            );
+            assertThat(e.failures().get(BadSpec.class), instanceOf(Exceptions.SpecInitializationFailed.class));
+            assertThat(
+                e.failures().get(ExampleOverwrittenSpec.class),
+                instanceOf(Exceptions.BlockAlreadyDefined.class)
+            );
+            assertThat(e.getSuppressed().length, is(2));
+            return;
+        }
+        throw new AssertionError("failed specs not reported");
+    }
+
+    @Test
+    public void keeps_reading_a_spec_after_another_spec_is_read_on_the_same_thread() {
+        List<Example> examples = read(ReadsAnotherSpecSpec.class);
+
+        assertThat(descriptions(examples), is(asList("block 1", "block 2")));
+    }
+
+    @Test
+    public void streams_the_same_examples_it_reads() {
+        List<Example> read = read(NestedRandomOrderSpec.class);
+        List<Example> streamed = stream(NestedRandomOrderSpec.class).collect(toList());
+
+        assertThat(descriptions(streamed), is(descriptions(read)));
+        for (int i = 0; i < read.size(); i++) {
+            assertThat(streamed.get(i).shouldBeIgnored(), is(read.get(i).shouldBeIgnored()));
+            assertThat(streamed.get(i).containerDescriptions(), is(read.get(i).containerDescriptions()));
+        }
+    }
+
+    @Test
+    public void runs_before_all_and_after_all_hooks_once_when_examples_are_streamed() {
+        hookLog = new ArrayList<>();
+
+        stream(NestedRandomOrderSpec.class)
+            .filter(example -> !example.shouldBeIgnored())
+            .forEach(example -> {
+                try {
+                    example.tryToExecute();
+                } catch (Throwable e) {
+                    throw new AssertionError(e);
+                }
+            });
+
+        assertThat(hookLog.stream().filter(hook -> hook.startsWith("before all")).count(), is(2L));
+        assertThat(hookLog.indexOf("before all"), is(0));
+        assertThat(hookLog.indexOf("before all A") < hookLog.indexOf("after all A"), is(true));
+        assertThat(hookLog.indexOf("after all"), is(hookLog.size() - 1));
+        assertThat(hookLog.size(), is(4));
+    }
 }
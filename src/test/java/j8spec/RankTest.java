@@ -84,4 +84,21 @@ public class RankTest {
             new Rank(0, 0, 0)
         )));
     }
+
+    @Test
+    public void is_sortable_when_values_are_far_apart() {
+        List<Rank> rankList = new LinkedList<>();
+
+        rankList.add(new Rank(Integer.MAX_VALUE));
+        rankList.add(new Rank(0));
+        rankList.add(new Rank(Integer.MIN_VALUE));
+
+        Collections.sort(rankList);
+
+        assertThat(rankList, is(asList(
+            new Rank(Integer.MIN_VALUE),
+            new Rank(0),
+            new Rank(Integer.MAX_VALUE)
+        )));
+    }
 }
@@ -0,0 +1,128 @@
+package j8spec;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class SharedFixturesTest {
+
+    private static List<String> log;
+
+    @DefinedOrder
+    static class FirstSpec {{
+        Var<String> server = var();
+
+        shared(server, "server", SharedFixturesTest::startServer, SharedFixturesTest::stopServer);
+
+        it("block 1", () -> {
+            log.add("first spec uses " + var(server));
+            log.add("references: " + SharedFixtures.references("server"));
+        });
+        it("block 2", () -> log.add("does not use the server"));
+    }}
+
+    @DefinedOrder
+    static class SecondSpec {{
+        describe("group A", () -> {
+            Var<String> server = var();
+
+            shared(server, "server", SharedFixturesTest::startServer, SharedFixturesTest::stopServer);
+
+            it("block A.1", () -> log.add("second spec uses " + var(server)));
+        });
+    }}
+
+    static class FailingStopSpec {{
+        Var<String> server = var();
+
+        shared(server, "failing server", () -> "failing server", value -> { throw new Exception("stop failed"); });
+
+        it("block 1", () -> var(server));
+    }}
+
+    private static String startServer() {
+        log.add("start");
+        return "server";
+    }
+
+    private static void stopServer(String server) {
+        log.add("stop " + server);
+    }
+
+    @Before
+    public void resetLog() {
+        log = new ArrayList<>();
+    }
+
+    @After
+    public void tearDownFixtures() {
+        SharedFixtures.tearDown();
+    }
+
+    @Test
+    public void starts_a_fixture_once_for_all_specs_and_tears_it_down_at_the_end() throws Throwable {
+        for (Example example : read(FirstSpec.class)) {
+            example.tryToExecute();
+        }
+        for (Example example : read(SecondSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(SharedFixtures.references("server"), is(0));
+
+        SharedFixtures.tearDown();
+        SharedFixtures.tearDown();
+
+        assertThat(log, is(asList(
+            "start",
+            "first spec uses server",
+            "references: 1",
+            "does not use the server",
+            "second spec uses server",
+            "stop server"
+        )));
+    }
+
+    @Test
+    public void starts_a_fixture_again_after_it_was_torn_down() throws Throwable {
+        for (Example example : read(SecondSpec.class)) {
+            example.tryToExecute();
+        }
+        SharedFixtures.tearDown();
+        for (Example example : read(SecondSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList(
+            "start",
+            "second spec uses server",
+            "stop server",
+            "start",
+            "second spec uses server"
+        )));
+    }
+
+    @Test
+    public void reports_fixtures_that_fail_to_be_torn_down() throws Throwable {
+        for (Example example : read(FailingStopSpec.class)) {
+            example.tryToExecute();
+        }
+
+        try {
+            SharedFixtures.tearDown();
+            fail("expected the tear down to fail");
+        } catch (Exceptions.SharedFixtureTearDownFailed e) {
+            assertThat(e.getSuppressed()[0].getMessage(), is("stop failed"));
+        }
+    }
+}
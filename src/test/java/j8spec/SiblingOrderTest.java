@@ -0,0 +1,99 @@
+package j8spec;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SiblingOrderTest {
+
+    private final SiblingOrder order = new SiblingOrder();
+
+    private ExampleGroupConfiguration.Builder groupConfig() {
+        return new ExampleGroupConfiguration.Builder().description("example group");
+    }
+
+    private List<String> siblings() {
+        return new ArrayList<>(asList("a", "b", "c", "d", "e"));
+    }
+
+    @Test
+    public void keeps_siblings_in_defined_order_when_using_defined_strategy() {
+        order.pushLevel(groupConfig().definedOrder().build());
+
+        List<String> siblings = siblings();
+        order.order(siblings);
+
+        assertThat(siblings, is(asList("a", "b", "c", "d", "e")));
+    }
+
+    @Test
+    public void uses_previous_level_strategy_for_new_level() {
+        order.pushLevel(groupConfig().definedOrder().build());
+        order.pushLevel(groupConfig().build());
+
+        List<String> siblings = siblings();
+        order.order(siblings);
+
+        assertThat(siblings, is(asList("a", "b", "c", "d", "e")));
+    }
+
+    @Test
+    public void uses_strategy_of_current_level_after_dropping_level() {
+        order.pushLevel(groupConfig().randomOrder().seed(0L).build());
+        order.pushLevel(groupConfig().definedOrder().build());
+        order.popLevel();
+
+        List<String> siblings = siblings();
+        order.order(siblings);
+
+        assertThat(siblings, is(not(asList("a", "b", "c", "d", "e"))));
+    }
+
+    @Test
+    public void shuffles_siblings_when_using_random_strategy() {
+        order.pushLevel(groupConfig().randomOrder().seed(0L).build());
+
+        List<String> siblings = siblings();
+        order.order(siblings);
+
+        assertThat(siblings, is(asList("e", "c", "b", "d", "a")));
+    }
+
+    @Test
+    public void shuffles_siblings_the_same_way_for_the_same_seed() {
+        SiblingOrder otherOrder = new SiblingOrder();
+        order.pushLevel(groupConfig().randomOrder().seed(42L).build());
+        otherOrder.pushLevel(groupConfig().randomOrder().seed(42L).build());
+
+        List<String> siblings = siblings();
+        List<String> otherSiblings = siblings();
+        order.order(siblings);
+        otherOrder.order(otherSiblings);
+
+        assertThat(siblings, is(otherSiblings));
+    }
+
+    @Test
+    public void does_not_lose_siblings_when_using_random_strategy() {
+        order.pushLevel(groupConfig().randomOrder().seed(0L).build());
+
+        List<Integer> siblings = IntStream.range(0, 200_000).boxed().collect(toList());
+        order.order(siblings);
+        siblings.sort(null);
+
+        assertThat(siblings, is(IntStream.range(0, 200_000).boxed().collect(toList())));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void does_not_accept_default_execution_order_in_the_root_level() {
+        order.pushLevel(groupConfig().build());
+    }
+}
@@ -3,6 +3,10 @@ package j8spec;
 import org.junit.Test;
 
 import static j8spec.J8Spec.*;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 public class VarInitializerTest {
@@ -13,11 +17,67 @@ public class VarInitializerTest {
         UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
         when(initFunction.tryToGet()).thenReturn("value");
 
-        VarInitializer<String> varInit = new VarInitializer<>(var(), initFunction);
+        Var<String> v = var();
+        VarInitializer<String> varInit = new VarInitializer<>(v, initFunction);
 
         varInit.tryToExecute();
+        assertThat(var(v), is("value"));
         varInit.tryToExecute();
+        assertThat(var(v), is("value"));
 
         verify(initFunction, times(1)).tryToGet();
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void does_not_execute_init_function_until_variable_is_read() throws Throwable {
+        UnsafeFunction<String> initFunction = mock(UnsafeFunction.class);
+
+        new VarInitializer<>(var(), initFunction).tryToExecute();
+
+        verify(initFunction, never()).tryToGet();
+    }
+
+    @Test
+    public void executes_init_function_for_every_example_in_example_scope() throws Throwable {
+        Var<Object> v = var();
+        VarInitializer<Object> varInit = new VarInitializer<>(v, VarScope.EXAMPLE, Object::new, null, null);
+
+        varInit.tryToExecute();
+        Object first = var(v);
+        assertThat(var(v), is(sameInstance(first)));
+
+        varInit.tryToExecute();
+        assertThat(var(v) == first, is(false));
+    }
+
+    @Test
+    public void shares_value_between_initializers_with_the_same_key_in_run_scope() throws Throwable {
+        Object runKey = asList("spec", "shares_value_between_initializers_with_the_same_key_in_run_scope");
+        Var<Object> v1 = var();
+        Var<Object> v2 = var();
+
+        new VarInitializer<>(v1, VarScope.RUN, Object::new, "spec", runKey).tryToExecute();
+        new VarInitializer<>(v2, VarScope.RUN, Object::new, "spec", runKey).tryToExecute();
+
+        assertThat(var(v2), is(sameInstance(var(v1))));
+    }
+
+    @Test
+    public void keeps_value_assigned_before_variable_is_read() throws Throwable {
+        Var<String> v = var();
+        new VarInitializer<>(v, () -> "initial value").tryToExecute();
+
+        var(v, "assigned value");
+
+        assertThat(var(v), is("assigned value"));
+    }
+
+    @Test(expected = Exceptions.VariableInitializationFailed.class)
+    public void wraps_checked_exceptions_thrown_by_init_function() throws Throwable {
+        Var<String> v = var();
+        new VarInitializer<>(v, () -> { throw new Exception("checked"); }).tryToExecute();
+
+        var(v);
+    }
+}
@@ -1,13 +1,84 @@
 package j8spec;
 
+import j8spec.annotation.DefinedOrder;
+import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
 import static j8spec.J8Spec.var;
+import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
 public class VarTest {
 
+    private static CyclicBarrier barrier;
+    private static Map<String, String> valuesByThread;
+    private static List<String> log;
+
+    public static class ConcurrentSpec {{
+        final Var<String> name = var();
+
+        beforeEach(() -> var(name, Thread.currentThread().getName()));
+
+        it("block 1", () -> {
+            barrier.await();
+            valuesByThread.put(Thread.currentThread().getName(), var(name));
+        });
+
+        it("block 2", () -> {
+            barrier.await();
+            valuesByThread.put(Thread.currentThread().getName(), var(name));
+        });
+    }}
+
+    @DefinedOrder
+    public static class SharedSpec {{
+        final Var<String> value = var();
+
+        beforeAll(() -> var(value, "before all"));
+
+        it("block 1", () -> {
+            log.add(var(value));
+            var(value, "block 1");
+            log.add(var(value));
+        });
+
+        it("block 2", () -> log.add(var(value)));
+    }}
+
+    @DefinedOrder
+    public static class NestedSpec {{
+        final Var<String> value = var();
+
+        it("outer", () -> {
+            var(value, "outer");
+            for (Example example : read(SharedSpec.class)) {
+                example.tryToExecute();
+            }
+            log.add(var(value));
+        });
+    }}
+
+    @Before
+    public void reset() {
+        barrier = new CyclicBarrier(2);
+        valuesByThread = new ConcurrentHashMap<>();
+        log = new ArrayList<>();
+    }
+
     @Test
     public void stores_value_in_variable() {
         final Var<String> s = var();
@@ -16,4 +87,47 @@ public class VarTest {
 
         assertThat(var(s), is("value"));
     }
+
+    @Test
+    public void keeps_values_of_examples_executing_concurrently_apart() throws Exception {
+        List<Example> examples = read(ConcurrentSpec.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<?>> executions = new ArrayList<>();
+            for (Example example : examples) {
+                executions.add(executor.submit(() -> {
+                    try {
+                        example.tryToExecuteWithinGroup();
+                    } catch (Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                }));
+            }
+            for (Future<?> execution : executions) {
+                execution.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(valuesByThread.size(), is(2));
+        valuesByThread.forEach((thread, value) -> assertThat(value, is(thread)));
+    }
+
+    @Test
+    public void shares_values_assigned_by_before_all_hooks_but_not_by_examples() throws Throwable {
+        for (Example example : read(SharedSpec.class)) {
+            example.tryToExecute();
+        }
+
+        assertThat(log, is(asList("before all", "block 1", "before all")));
+    }
+
+    @Test
+    public void keeps_values_of_an_example_executed_by_another_example_apart() throws Throwable {
+        read(NestedSpec.class).get(0).tryToExecute();
+
+        assertThat(log, is(asList("before all", "block 1", "before all", "outer")));
+    }
 }
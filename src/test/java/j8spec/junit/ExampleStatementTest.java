@@ -0,0 +1,61 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runners.model.TestTimedOutException;
+
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class ExampleStatementTest {
+
+    private static final long BUSY_MILLIS = 1000;
+
+    public static class NonInterruptibleSpec {{
+        it("block 1", c -> c.timeout(50, MILLISECONDS), () -> {
+            long end = System.nanoTime() + MILLISECONDS.toNanos(BUSY_MILLIS);
+            while (System.nanoTime() < end) {
+                // ignores the interruption
+            }
+        });
+    }}
+
+    @After
+    public void clearProperty() {
+        System.clearProperty("j8spec.junit.timeout.abandon");
+    }
+
+    @Test
+    public void fails_a_non_interruptible_example_once_it_finishes() throws Throwable {
+        long elapsed = evaluateTimingOut();
+
+        assertThat(elapsed >= BUSY_MILLIS, is(true));
+    }
+
+    @Test
+    public void abandons_a_non_interruptible_example_at_the_deadline() throws Throwable {
+        System.setProperty("j8spec.junit.timeout.abandon", "true");
+
+        long elapsed = evaluateTimingOut();
+
+        assertThat(elapsed < BUSY_MILLIS / 2, is(true));
+    }
+
+    private static long evaluateTimingOut() throws Throwable {
+        Example example = read(NonInterruptibleSpec.class).get(0);
+
+        long start = System.nanoTime();
+        try {
+            ExampleStatement.newStatement(example).evaluate();
+            fail("expected the example to time out");
+        } catch (TestTimedOutException ignored) {
+        }
+        return NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
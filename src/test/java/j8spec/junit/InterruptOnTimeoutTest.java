@@ -0,0 +1,80 @@
+package j8spec.junit;
+
+import j8spec.UnsafeBlock;
+import org.junit.Test;
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestTimedOutException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class InterruptOnTimeoutTest {
+
+    private static final ThreadLocal<String> threadLocal = new ThreadLocal<>();
+
+    @Test
+    public void runs_statement_in_the_calling_thread() throws Throwable {
+        List<Object> values = new ArrayList<>();
+        threadLocal.set("value");
+
+        try {
+            new InterruptOnTimeout(statement(() -> values.add(threadLocal.get())), 1000, MILLISECONDS).evaluate();
+        } finally {
+            threadLocal.remove();
+        }
+
+        assertThat(values.get(0), is("value"));
+    }
+
+    @Test(expected = TestTimedOutException.class)
+    public void fails_when_statement_times_out() throws Throwable {
+        new InterruptOnTimeout(statement(() -> Thread.sleep(10_000)), 50, MILLISECONDS).evaluate();
+    }
+
+    @Test(expected = TestTimedOutException.class)
+    public void fails_when_statement_times_out_even_if_it_swallows_the_interruption() throws Throwable {
+        new InterruptOnTimeout(statement(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ignored) {
+            }
+        }), 50, MILLISECONDS).evaluate();
+    }
+
+    @Test
+    public void clears_the_interruption_after_timing_out() throws Throwable {
+        try {
+            new InterruptOnTimeout(statement(() -> Thread.sleep(10_000)), 50, MILLISECONDS).evaluate();
+        } catch (TestTimedOutException ignored) {
+        }
+
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrows_failure_when_statement_finishes_in_time() throws Throwable {
+        new InterruptOnTimeout(statement(() -> { throw new IllegalStateException(); }), 1000, MILLISECONDS).evaluate();
+    }
+
+    @Test
+    public void does_not_interrupt_statement_that_finishes_in_time() throws Throwable {
+        new InterruptOnTimeout(statement(() -> {}), 1000, MILLISECONDS).evaluate();
+
+        Thread.sleep(10);
+
+        assertThat(Thread.currentThread().isInterrupted(), is(false));
+    }
+
+    private static Statement statement(UnsafeBlock block) {
+        return new Statement() {
+            @Override
+            public void evaluate() throws Throwable {
+                block.tryToExecute();
+            }
+        };
+    }
+}
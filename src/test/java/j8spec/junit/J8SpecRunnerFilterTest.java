@@ -0,0 +1,229 @@
+package j8spec.junit;
+
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.fit;
+import static j8spec.J8Spec.it;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.runner.Description.createTestDescription;
+
+public class J8SpecRunnerFilterTest {
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        beforeAll(() -> log.add("before all"));
+
+        it("block 1", () -> log.add("block 1"));
+
+        describe("describe A", () -> {
+            beforeAll(() -> log.add("describe A before all"));
+            it("block A.1", () -> log.add("block A.1"));
+            it("block A.2", () -> log.add("block A.2"));
+            afterAll(() -> log.add("describe A after all"));
+
+            describe("describe A.A", () -> {
+                it("block A.A.1", () -> log.add("block A.A.1"));
+            });
+        });
+
+        describe("describe B", () -> {
+            beforeAll(() -> log.add("describe B before all"));
+            it("block B.1", () -> log.add("block B.1"));
+            afterAll(() -> log.add("describe B after all"));
+        });
+
+        afterAll(() -> log.add("after all"));
+    }}
+
+    @DefinedOrder
+    public static class FocusedSpec {{
+        describe("describe A", () -> {
+            it("block A.1", () -> log.add("block A.1"));
+            fit("block A.2", () -> log.add("block A.2"));
+        });
+
+        describe("describe B", () -> {
+            it("block B.1", () -> log.add("block B.1"));
+            it("block B.2", () -> log.add("block B.2"));
+        });
+    }}
+
+    private static List<String> log;
+
+    @Before
+    public void resetLog() {
+        log = new ArrayList<>();
+        System.clearProperty("j8spec.junit.description.format");
+        System.clearProperty("j8spec.junit.description.separator");
+    }
+
+    @After
+    public void clearFilter() {
+        System.clearProperty("j8spec.filter");
+        System.clearProperty("j8spec.read.lazy");
+    }
+
+    @Test
+    public void runs_only_the_example_selected_by_a_method_filter() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+
+        runner.filter(Filter.matchMethodDescription(
+            createTestDescription(SampleSpec.class, "describe A/block A.2")
+        ));
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(asList(
+            "before all",
+            "describe A before all",
+            "block A.2",
+            "describe A after all",
+            "after all"
+        )));
+    }
+
+    @Test(expected = NoTestsRemainException.class)
+    public void reports_when_method_filter_matches_no_example() throws Exception {
+        new J8SpecRunner(SampleSpec.class).filter(Filter.matchMethodDescription(
+            createTestDescription(SampleSpec.class, "describe A/block B.1")
+        ));
+    }
+
+    @Test
+    public void runs_hooks_of_a_group_whose_first_example_is_filtered_out() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+
+        runner.filter(new Filter() {
+            @Override
+            public boolean shouldRun(Description description) {
+                return !description.getMethodName().equals("describe A/block A.1")
+                    && !description.getMethodName().startsWith("describe B");
+            }
+
+            @Override
+            public String describe() {
+                return "all but block A.1 and describe B";
+            }
+        });
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(asList(
+            "before all",
+            "block 1",
+            "describe A before all",
+            "block A.2",
+            "block A.A.1",
+            "describe A after all",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void selects_examples_of_a_group_through_system_property() throws InitializationError {
+        System.setProperty("j8spec.filter", "describe A");
+
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        runner.run(new RunNotifier());
+
+        assertThat(descriptions(runner), is(asList("block A.1", "block A.2", "block A.A.1")));
+        assertThat(log, is(asList(
+            "before all",
+            "describe A before all",
+            "block A.1",
+            "block A.2",
+            "block A.A.1",
+            "describe A after all",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void selects_an_inner_group_through_system_property() throws InitializationError {
+        System.setProperty("j8spec.filter", "describe A/describe A.A");
+
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        runner.run(new RunNotifier());
+
+        assertThat(log, is(asList(
+            "before all",
+            "describe A before all",
+            "block A.A.1",
+            "describe A after all",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void runs_the_selected_group_when_reading_lazily() throws InitializationError {
+        System.setProperty("j8spec.filter", "describe A/describe A.A");
+        System.setProperty("j8spec.read.lazy", "true");
+
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        runner.run(new RunNotifier());
+
+        assertThat(descriptions(runner), is(asList("block A.A.1")));
+        assertThat(log, is(asList(
+            "before all",
+            "describe A before all",
+            "block A.A.1",
+            "describe A after all",
+            "after all"
+        )));
+    }
+
+    @Test
+    public void runs_the_same_examples_with_focus_outside_the_filter_whether_reading_lazily_or_not()
+        throws InitializationError {
+        System.setProperty("j8spec.filter", "describe B");
+
+        new J8SpecRunner(FocusedSpec.class).run(new RunNotifier());
+        List<String> eagerly = log;
+
+        log = new ArrayList<>();
+        System.setProperty("j8spec.read.lazy", "true");
+        new J8SpecRunner(FocusedSpec.class).run(new RunNotifier());
+
+        assertThat(eagerly, is(asList("block B.1", "block B.2")));
+        assertThat(log, is(eagerly));
+    }
+
+    @Test
+    public void selects_a_single_example_through_system_property() throws InitializationError {
+        System.setProperty("j8spec.filter", "describe B/block B.1");
+
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+
+        assertThat(descriptions(runner), is(asList("block B.1")));
+    }
+
+    @Test
+    public void selects_nothing_when_system_property_matches_nothing() throws InitializationError {
+        System.setProperty("j8spec.filter", "describe C");
+
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        runner.run(new RunNotifier());
+
+        assertThat(descriptions(runner), is(asList()));
+        assertThat(log, is(asList()));
+    }
+
+    private static List<String> descriptions(J8SpecRunner runner) {
+        return runner.getChildren().stream().map(example -> example.description()).collect(toList());
+    }
+}
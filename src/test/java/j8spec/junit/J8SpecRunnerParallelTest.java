@@ -0,0 +1,277 @@
+package j8spec.junit;
+
+import j8spec.Var;
+import j8spec.annotation.ConcurrentExamples;
+import j8spec.annotation.DefinedOrder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.Result;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.InitializationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+
+import static j8spec.J8Spec.afterAll;
+import static j8spec.J8Spec.afterEach;
+import static j8spec.J8Spec.beforeAll;
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.let;
+import static j8spec.J8Spec.var;
+import static j8spec.J8Spec.xit;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class J8SpecRunnerParallelTest {
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        beforeAll(() -> log.add("before all"));
+        beforeEach(() -> log.add("before each"));
+
+        it("block 1", () -> log.add("block 1"));
+
+        describe("describe A", () -> {
+            beforeAll(() -> log.add("describe A before all"));
+            it("block A.1", () -> log.add("block A.1"));
+            it("block A.2", () -> log.add("block A.2"));
+            afterAll(() -> log.add("describe A after all"));
+        });
+
+        describe("describe B", () -> {
+            beforeAll(() -> log.add("describe B before all"));
+            it("block B.1", () -> log.add("block B.1"));
+            xit("block B.2", () -> log.add("block B.2"));
+            afterAll(() -> log.add("describe B after all"));
+        });
+
+        afterEach(() -> log.add("after each"));
+        afterAll(() -> log.add("after all"));
+    }}
+
+    @DefinedOrder
+    @ConcurrentExamples
+    public static class ConcurrentExamplesSpec {{
+        beforeAll(() -> log.add("before all"));
+
+        it("block 1", () -> { inFlight.await(5, SECONDS); log.add("block 1"); });
+        it("block 2", () -> { inFlight.await(5, SECONDS); log.add("block 2"); });
+        it("block 3", () -> { inFlight.await(5, SECONDS); log.add("block 3"); });
+
+        afterAll(() -> log.add("after all"));
+    }}
+
+    @DefinedOrder
+    public static class SharedLetSpec {{
+        Var<String> shared = var();
+
+        let(shared, () -> {
+            Thread.sleep(100);
+            return "value";
+        });
+
+        describe("describe A", () -> {
+            beforeAll(() -> { groupsInFlight.await(5, SECONDS); log.add("describe A " + var(shared)); });
+            it("block A.1", () -> {});
+        });
+
+        describe("describe B", () -> {
+            beforeAll(() -> { groupsInFlight.await(5, SECONDS); log.add("describe B " + var(shared)); });
+            it("block B.1", () -> {});
+        });
+    }}
+
+    @DefinedOrder
+    public static class AbandonedExampleSpec {{
+        describe("describe A", () -> {
+            it("block A.1", c -> c.timeout(50, MILLISECONDS), () -> {
+                long end = System.nanoTime() + SECONDS.toNanos(1);
+                while (System.nanoTime() < end) {
+                    // ignores the interruption
+                }
+            });
+            afterAll(() -> log.add("describe A after all"));
+        });
+
+        afterAll(() -> log.add("after all"));
+    }}
+
+    @DefinedOrder
+    public static class BeforeAllFailureSpec {{
+        describe("describe A", () -> {
+            beforeAll(() -> { throw new RuntimeException("before all"); });
+            it("block A.1", () -> log.add("block A.1"));
+            it("block A.2", () -> log.add("block A.2"));
+            afterAll(() -> log.add("describe A after all"));
+        });
+
+        describe("describe B", () -> {
+            it("block B.1", () -> log.add("block B.1"));
+        });
+
+        afterAll(() -> log.add("after all"));
+    }}
+
+    @DefinedOrder
+    public static class AfterAllFailureSpec {{
+        it("block 1", () -> log.add("block 1"));
+        afterAll(() -> { throw new RuntimeException("after all"); });
+    }}
+
+    private static List<String> log;
+    private static CyclicBarrier inFlight;
+    private static CyclicBarrier groupsInFlight;
+
+    @Before
+    public void enableParallelMode() {
+        log = Collections.synchronizedList(new ArrayList<>());
+        System.setProperty("j8spec.junit.parallel", "true");
+        System.clearProperty("j8spec.junit.description.format");
+        System.clearProperty("j8spec.junit.description.separator");
+    }
+
+    @After
+    public void disableParallelMode() {
+        System.clearProperty("j8spec.junit.parallel");
+        System.clearProperty("j8spec.junit.timeout.abandon");
+    }
+
+    @Test
+    public void runs_all_examples() throws InitializationError {
+        Result result = run(SampleSpec.class, new RunListener());
+
+        assertThat(result.getRunCount(), is(4));
+        assertThat(result.getIgnoreCount(), is(1));
+        assertThat(result.getFailureCount(), is(0));
+    }
+
+    @Test
+    public void runs_before_all_and_after_all_hooks_once_per_group() throws InitializationError {
+        run(SampleSpec.class, new RunListener());
+
+        assertThat(Collections.frequency(log, "before all"), is(1));
+        assertThat(Collections.frequency(log, "describe A before all"), is(1));
+        assertThat(Collections.frequency(log, "describe B before all"), is(1));
+        assertThat(Collections.frequency(log, "describe A after all"), is(1));
+        assertThat(Collections.frequency(log, "describe B after all"), is(1));
+        assertThat(Collections.frequency(log, "after all"), is(1));
+
+        assertThat(log.get(0), is("before all"));
+        assertThat(log.get(log.size() - 1), is("after all"));
+    }
+
+    @Test
+    public void runs_each_hooks_for_every_example() throws InitializationError {
+        run(SampleSpec.class, new RunListener());
+
+        assertThat(Collections.frequency(log, "before each"), is(4));
+        assertThat(Collections.frequency(log, "after each"), is(4));
+    }
+
+    @Test
+    public void keeps_defined_order_inside_a_group() throws InitializationError {
+        run(SampleSpec.class, new RunListener());
+
+        assertThat(log.indexOf("describe A before all") < log.indexOf("block A.1"), is(true));
+        assertThat(log.indexOf("block A.1") < log.indexOf("block A.2"), is(true));
+        assertThat(log.indexOf("block A.2") < log.indexOf("describe A after all"), is(true));
+    }
+
+    @Test
+    public void runs_concurrent_examples_between_group_hooks() throws InitializationError {
+        inFlight = new CyclicBarrier(3);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        Result result;
+        try {
+            result = run(ConcurrentExamplesSpec.class, new RunListener(), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(log.size(), is(5));
+        assertThat(log.get(0), is("before all"));
+        assertThat(log, hasItems("block 1", "block 2", "block 3"));
+        assertThat(log.get(4), is("after all"));
+    }
+
+    @Test
+    public void initializes_variables_read_by_sibling_group_hooks_running_together() throws InitializationError {
+        groupsInFlight = new CyclicBarrier(2);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        Result result;
+        try {
+            result = run(SharedLetSpec.class, new RunListener(), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(result.getFailureCount(), is(0));
+        assertThat(log, hasItems("describe A value", "describe B value"));
+    }
+
+    @Test
+    public void runs_after_all_hooks_of_the_groups_of_an_abandoned_example() throws InitializationError {
+        System.setProperty("j8spec.junit.timeout.abandon", "true");
+
+        Result result = run(AbandonedExampleSpec.class, new RunListener());
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(log, is(asList("describe A after all", "after all")));
+    }
+
+    @Test
+    public void reports_before_all_failure_once_and_ignores_the_rest_of_the_group() throws InitializationError {
+        List<String> ignored = Collections.synchronizedList(new ArrayList<>());
+
+        Result result = run(BeforeAllFailureSpec.class, new RunListener() {
+            @Override
+            public void testIgnored(Description description) {
+                ignored.add(description.getMethodName());
+            }
+        });
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("describe A/block A.1"));
+        assertThat(ignored, is(asList("describe A/block A.2")));
+        assertThat(log, is(asList("block B.1", "after all")));
+    }
+
+    @Test
+    public void reports_after_all_failure_in_the_last_example_of_the_group() throws InitializationError {
+        Result result = run(AfterAllFailureSpec.class, new RunListener());
+
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getDescription().getMethodName(), is("block 1"));
+        assertThat(result.getFailures().get(0).getMessage(), is("after all"));
+    }
+
+    private Result run(Class<?> specClass, RunListener listener) throws InitializationError {
+        return run(specClass, listener, null);
+    }
+
+    private Result run(Class<?> specClass, RunListener listener, ForkJoinPool pool) throws InitializationError {
+        Result result = new Result();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(result.createListener());
+        notifier.addListener(listener);
+
+        new J8SpecRunner(specClass, pool).run(notifier);
+
+        return result;
+    }
+}
@@ -1,7 +1,11 @@
 package j8spec.junit;
 
 import j8spec.Example;
+import j8spec.GroupPath;
+import j8spec.PhaseListener;
 import j8spec.UnsafeBlock;
+import j8spec.Var;
+import j8spec.VarScope;
 import j8spec.annotation.DefinedOrder;
 import org.junit.Before;
 import org.junit.Test;
@@ -10,16 +14,28 @@ import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.TestTimedOutException;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static j8spec.J8Spec.beforeEach;
 import static j8spec.J8Spec.describe;
 import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.let;
+import static j8spec.J8Spec.var;
 import static j8spec.J8Spec.xit;
+import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -52,7 +68,19 @@ public class J8SpecRunnerTest {
         it("block 5", c -> c.timeout(500, MILLISECONDS), () -> Thread.sleep(1000));
     }}
 
+    @DefinedOrder
+    public static class RunScopedVarSpec {{
+        Var<Integer> v = var();
+
+        let(v, VarScope.RUN, () -> ++runScopedInitializations);
+
+        it("block 1", () -> runScopedValues.add(var(v)));
+        it("block 2", () -> runScopedValues.add(var(v)));
+    }}
+
     private static Map<String, UnsafeBlock> blocks;
+    private static int runScopedInitializations;
+    private static List<Integer> runScopedValues;
 
     private static UnsafeBlock newBlock(String id) {
         UnsafeBlock block = mock(UnsafeBlock.class);
@@ -123,12 +151,12 @@ public class J8SpecRunnerTest {
 
     @Test
     public void describes_child_with_parent_context_using_custom_format() throws InitializationError {
-        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
-        List<Example> examples = runner.getChildren();
-
         System.setProperty("j8spec.junit.description.format", "%2$s (%1$s)");
         System.setProperty("j8spec.junit.description.separator", ", ");
 
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        List<Example> examples = runner.getChildren();
+
         Description blockA1Description = runner.describeChild(examples.get(4));
 
         assertThat(blockA1Description.getClassName(), is("j8spec.junit.J8SpecRunnerTest$SampleSpec"));
@@ -295,4 +323,112 @@ public class J8SpecRunnerTest {
         assertThat(listener.getDescription(), is(runner.describeChild(examples.get(6))));
         assertThat(listener.getException(), instanceOf(TestTimedOutException.class));
     }
+
+    @Test
+    public void returns_the_same_description_for_a_child_from_any_thread() throws Exception {
+        J8SpecRunner runner = new J8SpecRunner(SampleSpec.class);
+        Example example = runner.getChildren().get(4);
+        Description description = runner.describeChild(example);
+
+        List<Callable<Description>> describeCalls = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            describeCalls.add(() -> runner.describeChild(example));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (Future<Description> otherDescription : executor.invokeAll(describeCalls)) {
+                assertThat(otherDescription.get(), is(sameInstance(description)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static class RecordingPhaseListener implements PhaseListener {
+        static final List<String> phases = new ArrayList<>();
+
+        @Override
+        public synchronized void phaseFinished(
+            GroupPath containerPath,
+            Example example,
+            Phase phase,
+            long durationNanos
+        ) {
+            phases.add(example.description() + " " + phase);
+        }
+    }
+
+    @DefinedOrder
+    public static class PhasesSpec {{
+        beforeEach(() -> {});
+        it("block 1", () -> {});
+        describe("describe A", () -> it("block A.1", () -> {}));
+    }}
+
+    @Test
+    public void reports_example_phases_to_listeners_named_by_system_property() throws InitializationError {
+        RecordingPhaseListener.phases.clear();
+        System.setProperty("j8spec.junit.phase.listeners", RecordingPhaseListener.class.getName());
+        try {
+            new J8SpecRunner(PhasesSpec.class).run(new RunNotifier());
+        } finally {
+            System.clearProperty("j8spec.junit.phase.listeners");
+        }
+
+        assertThat(RecordingPhaseListener.phases, is(asList(
+            "block 1 VAR_INITIALIZERS",
+            "block 1 BEFORE_EACH",
+            "block 1 BODY",
+            "block 1 AFTER_EACH",
+            "block A.1 VAR_INITIALIZERS",
+            "block A.1 BEFORE_EACH",
+            "block A.1 BODY",
+            "block A.1 AFTER_EACH"
+        )));
+    }
+
+    @Test(expected = InitializationError.class)
+    public void fails_to_initialize_when_a_phase_listener_cannot_be_created() throws InitializationError {
+        System.setProperty("j8spec.junit.phase.listeners", "j8spec.junit.MissingPhaseListener");
+        try {
+            new J8SpecRunner(PhasesSpec.class);
+        } finally {
+            System.clearProperty("j8spec.junit.phase.listeners");
+        }
+    }
+
+    @Test
+    public void appends_slowest_examples_and_hooks_to_a_file() throws Exception {
+        File file = File.createTempFile("j8spec", ".txt");
+        file.deleteOnExit();
+
+        System.setProperty("j8spec.junit.slowest", "1");
+        System.setProperty("j8spec.junit.slowest.file", file.getPath());
+        try {
+            new J8SpecRunner(PhasesSpec.class).run(new RunNotifier());
+        } finally {
+            System.clearProperty("j8spec.junit.slowest");
+            System.clearProperty("j8spec.junit.slowest.file");
+        }
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertThat(lines.size(), is(4));
+        assertThat(lines.get(0), is("Slowest examples of " + PhasesSpec.class.getName() + ":"));
+        assertThat(lines.get(2), is("Slowest hooks of " + PhasesSpec.class.getName() + ":"));
+        assertThat(lines.get(3).endsWith("beforeEach #1 of spec (2 runs)"), is(true));
+    }
+
+    @Test
+    public void initializes_run_scoped_variables_again_on_each_run() throws InitializationError {
+        runScopedInitializations = 0;
+        runScopedValues = new ArrayList<>();
+        J8SpecRunner runner = new J8SpecRunner(RunScopedVarSpec.class);
+
+        runner.run(new RunNotifier());
+        runner.run(new RunNotifier());
+        new J8SpecRunner(RunScopedVarSpec.class).run(new RunNotifier());
+
+        assertThat(runScopedValues, is(asList(1, 1, 2, 2, 3, 3)));
+    }
 }
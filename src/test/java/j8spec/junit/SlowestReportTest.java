@@ -0,0 +1,80 @@
+package j8spec.junit;
+
+import j8spec.Example;
+import j8spec.GroupPath;
+import j8spec.annotation.DefinedOrder;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static j8spec.J8Spec.beforeEach;
+import static j8spec.J8Spec.describe;
+import static j8spec.J8Spec.it;
+import static j8spec.J8Spec.read;
+import static j8spec.PhaseListener.Phase.AFTER_EACH;
+import static j8spec.PhaseListener.Phase.BEFORE_EACH;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SlowestReportTest {
+
+    @DefinedOrder
+    public static class SampleSpec {{
+        beforeEach(() -> {});
+        it("block 1", () -> {});
+        it("block 2", () -> {});
+        describe("describe A", () -> {
+            beforeEach(() -> {});
+            beforeEach(() -> {});
+            it("block A.1", () -> {});
+        });
+    }}
+
+    private final List<Example> examples = read(SampleSpec.class);
+    private final GroupPath spec = examples.get(0).groupPath();
+    private final GroupPath describeA = examples.get(2).groupPath();
+
+    @Test
+    public void keeps_only_the_slowest_examples() {
+        SlowestReport report = new SlowestReport(2);
+
+        report.exampleFinished(spec, examples.get(0), null, 3_000_000);
+        report.exampleFinished(spec, examples.get(1), null, 1_000_000);
+        report.exampleFinished(describeA, examples.get(2), null, 2_000_000);
+
+        assertThat(print(report), is(asList(
+            "Slowest examples of spec:",
+            "     3.000 ms  block 1",
+            "     2.000 ms  describe A/block A.1",
+            "Slowest hooks of spec:"
+        )));
+    }
+
+    @Test
+    public void ranks_hooks_by_their_total_time_across_examples() {
+        SlowestReport report = new SlowestReport(2);
+
+        report.hookFinished(spec, BEFORE_EACH, 0, examples.get(0), null, 1_000_000);
+        report.hookFinished(spec, BEFORE_EACH, 0, examples.get(1), null, 1_000_000);
+        report.hookFinished(spec, BEFORE_EACH, 0, examples.get(2), null, 1_000_000);
+        report.hookFinished(describeA, BEFORE_EACH, 0, examples.get(2), null, 500_000);
+        report.hookFinished(describeA, BEFORE_EACH, 1, examples.get(2), null, 2_500_000);
+        report.hookFinished(describeA, AFTER_EACH, 0, examples.get(2), null, 4_000_000);
+
+        assertThat(print(report), is(asList(
+            "Slowest examples of spec:",
+            "Slowest hooks of spec:",
+            "     4.000 ms  afterEach #1 of describe A (1 run)",
+            "     3.000 ms  beforeEach #1 of spec (3 runs)"
+        )));
+    }
+
+    private static List<String> print(SlowestReport report) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        report.print("spec", new PrintStream(output, true));
+        return asList(output.toString().split(System.lineSeparator()));
+    }
+}